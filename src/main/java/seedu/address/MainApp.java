@@ -22,9 +22,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormat;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageRegistry;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,6 +47,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,12 +62,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
@@ -70,7 +76,9 @@ public class MainApp extends Application {
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the part of it that {@code storage} can recover, possibly none, will be used instead if errors occur when
+     * reading {@code storage}'s address book.
+     * A data file stored in a different format than {@code storage} writes is converted to that format.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -82,17 +90,81 @@ public class MainApp extends Application {
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
+            } else {
+                convertDataFileIfNeeded(storage, addressBookOptional.get());
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = recoverAddressBook(storage);
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the part of {@code storage}'s address book that is still intact, or an empty address book if none is.
+     */
+    private ReadOnlyAddressBook recoverAddressBook(Storage storage) {
+        try {
+            Optional<ReadOnlyAddressBook> recovered = storage.recoverAddressBook();
+            if (recovered.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded in full."
+                        + " Will be starting with the data that could be recovered.");
+                return recovered.get();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Failed to recover data file " + StringUtil.getDetails(e));
+        }
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                + " Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
+    /**
+     * Returns the address book storage chosen by {@code userPrefs}. If the storage settings are rejected, the
+     * default backend is used instead, without lazy loading.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        AddressBookStorageRegistry registry = AddressBookStorageRegistry.withDiscoveredProviders();
+        try {
+            return registry.createStorage(userPrefs, this::logLoadProgress);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid storage settings in preferences: " + e.getMessage()
+                    + ". Will be using the default storage settings instead.");
+            UserPrefs defaultStoragePrefs = new UserPrefs();
+            defaultStoragePrefs.setAddressBookFilePath(userPrefs.getAddressBookFilePath());
+            return registry.createStorage(defaultStoragePrefs, this::logLoadProgress);
+        }
+    }
+
+    /**
+     * Rewrites {@code data}, just read from {@code storage}'s data file, if that file is stored in a different
+     * format than {@code storage} writes.
+     */
+    private void convertDataFileIfNeeded(Storage storage, ReadOnlyAddressBook data) {
+        Path filePath = storage.getAddressBookFilePath();
+        try {
+            Optional<AddressBookFormat> fileFormat = AddressBookFormat.detect(filePath);
+            if (fileFormat.isPresent() && fileFormat.get() != storage.getAddressBookFormat()) {
+                logger.info("Converting data file " + filePath + " from " + fileFormat.get() + " to "
+                        + storage.getAddressBookFormat());
+                storage.saveAddressBook(data);
+                if (fileFormat.get() == AddressBookFormat.SHARDED) {
+                    ShardedAddressBookStorage.deleteShards(filePath);
+                } else if (fileFormat.get() == AddressBookFormat.JSON) {
+                    JournaledAddressBookStorage.deleteJournals(filePath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to convert data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void logLoadProgress(int recordsLoaded, long bytesRead, long totalBytes) {
+        long percentRead = totalBytes == 0 ? 100 : bytesRead * 100 / totalBytes;
+        logger.info("Loaded " + recordsLoaded + " records (" + percentRead + "% of data file)");
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,10 +249,20 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close data file " + StringUtil.getDetails(e));
+        }
     }
 }
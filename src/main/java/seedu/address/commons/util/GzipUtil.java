@@ -0,0 +1,86 @@
+package seedu.address.commons.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes files compressed with gzip.
+ */
+public class GzipUtil {
+
+    /** Extension of the names of files that are written compressed. */
+    public static final String FILE_EXTENSION = ".gz";
+
+    /** The first bytes of every gzip file. */
+    static final byte[] MAGIC = {0x1f, (byte) 0x8b};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int TRAILER_SIZE_BYTES = 4;
+
+    /**
+     * Returns true if {@code file} is named as a compressed file.
+     */
+    public static boolean hasGzipExtension(Path file) {
+        return file.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the bytes of a gzip file, whatever its name.
+     */
+    public static boolean isGzipFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Returns the size of the data compressed in the gzip file {@code file}, as recorded in its trailer.
+     * The trailer records the size modulo 4 GiB, so the result is only exact for smaller data.
+     */
+    public static long getUncompressedSize(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(trailer, Math.max(0, channel.size() - TRAILER_SIZE_BYTES));
+            return trailer.hasRemaining() ? 0 : Integer.toUnsignedLong(trailer.getInt(0));
+        }
+    }
+
+    /**
+     * Returns a stream decompressing the gzip file {@code file} as it is read.
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code out}, compressing it as it is written.
+     * {@code out} is flushed but not closed.
+     */
+    public static void writeCompressed(OutputStream out, FileUtil.ContentWriter contentWriter) throws IOException {
+        OutputStream unclosedOut = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(unclosedOut, BUFFER_SIZE)) {
+            contentWriter.writeTo(gzipOut);
+        }
+    }
+}
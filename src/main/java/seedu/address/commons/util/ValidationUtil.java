@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+/**
+ * Helper functions for validating strings character by character, without regular expressions.
+ * Each character class matches exactly the characters of its {@link java.util.regex.Pattern} counterpart, so that a
+ * hand-written check accepts exactly the strings its documented regex does.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is matched by {@code \p{Alnum}}, that is, an ASCII letter or digit.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \d}, that is, an ASCII digit.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}: a space, tab, line feed, vertical tab, form feed or
+     * carriage return.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code .*} matches {@code test} from {@code beginIndex} onwards, that is, if no line ends there.
+     */
+    public static boolean isSingleLine(String test, int beginIndex) {
+        for (int i = beginIndex; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * API of the Logic component
@@ -30,6 +36,27 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     *
+     * @see seedu.address.model.Model#findPersonById(PersonId)
+     */
+    Optional<Person> findPersonById(PersonId id);
+
+    /**
+     * Returns the tuition classes taught by {@code tutor}.
+     *
+     * @see seedu.address.model.Model#getClassesByTutor(Tutor)
+     */
+    List<TuitionClass> getClassesByTutor(Tutor tutor);
+
+    /**
+     * Returns the tuition classes attended by {@code student}.
+     *
+     * @see seedu.address.model.Model#getClassesByStudent(Student)
+     */
+    List<TuitionClass> getClassesByStudent(Student student);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
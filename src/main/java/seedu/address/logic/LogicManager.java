@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +18,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,15 +38,27 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address
+     * book through {@code saver} in the background, or before each command returns if {@code saver} is null.
+     * A failed background save is reported in the feedback of the next command, which still takes effect.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.saver = saver;
+        addressBookParser = new AddressBookParser(storage::readAddressBook);
     }
 
     @Override
@@ -48,24 +67,67 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long versionBeforeCommand = model.getAddressBookVersion();
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (model.getAddressBookVersion() == versionBeforeCommand) {
+                logger.info("Skipped saving: the address book was not modified");
+            } else if (saver == null) {
+                storage.saveAddressBook(model.getAddressBook());
+            } else {
+                saver.requestSave(model.getAddressBook());
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
+        }
+
+        if (saver != null) {
+            Optional<IOException> backgroundSaveFailure = saver.takeFailure();
+            if (backgroundSaveFailure.isPresent()) {
+                // The command has already changed the model, so its result stands and the failure is added to it.
+                // The failed save is retried with the next one.
+                logger.warning("Background save failed: " + backgroundSaveFailure.get());
+                return new CommandResult(commandResult.getFeedbackToUser() + "\n"
+                        + getSaveErrorMessage(backgroundSaveFailure.get()),
+                        commandResult.isShowHelp(), commandResult.isExit());
+            }
         }
 
         return commandResult;
     }
 
+    private static CommandException toCommandException(IOException ioe) {
+        return new CommandException(getSaveErrorMessage(ioe), ioe);
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public Optional<Person> findPersonById(PersonId id) {
+        return model.findPersonById(id);
+    }
+
+    @Override
+    public List<TuitionClass> getClassesByTutor(Tutor tutor) {
+        return model.getClassesByTutor(tutor);
+    }
+
+    @Override
+    public List<TuitionClass> getClassesByStudent(Student student) {
+        return model.getClassesByStudent(student);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
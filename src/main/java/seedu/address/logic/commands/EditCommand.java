@@ -107,8 +107,7 @@ public class EditCommand extends Command {
         if (editedPerson instanceof Student) {
             Student editedStudent = (Student) editedPerson;
             if (editedStudent.getParentId() != null) {
-                Optional<Person> parentOpt = model.getAddressBook().getPersonList().stream()
-                    .filter(p -> p.getId().equals(editedStudent.getParentId())).findFirst();
+                Optional<Person> parentOpt = model.findPersonById(editedStudent.getParentId());
                 if (parentOpt.isPresent() && parentOpt.get() instanceof Parent) {
                     Parent parent = (Parent) parentOpt.get();
                     model.setPerson(parentOpt.get(), parent);
@@ -174,17 +173,12 @@ public class EditCommand extends Command {
      * Removes the person from their old relationships and updates related persons.
      */
     private static void cleanupOldRelationships(Person personToEdit, Model model) {
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        List<TuitionClass> allClasses = model.getTuitionClassList();
-
         if (personToEdit instanceof Student) {
             Student student = (Student) personToEdit;
 
             // Remove from parent's children list
             if (student.getParentId() != null) {
-                Optional<Person> parentOpt = allPersons.stream()
-                    .filter(p -> p.getId().equals(student.getParentId()))
-                    .findFirst();
+                Optional<Person> parentOpt = model.findPersonById(student.getParentId());
                 if (parentOpt.isPresent() && parentOpt.get() instanceof Parent) {
                     Parent parent = (Parent) parentOpt.get();
                     parent.removeChildId(student.getId());
@@ -195,9 +189,7 @@ public class EditCommand extends Command {
             // Remove from classes
             if (student.getClassId().isPresent()) {
                 ClassId classId = student.getClassId().get();
-                TuitionClass tuitionClass = allClasses.stream()
-                        .filter(c -> c.getClassId().equals(classId))
-                        .findFirst().get();
+                TuitionClass tuitionClass = model.findTuitionClass(classId).get();
                 tuitionClass.removeStudentId(student.getId());
                 model.setTuitionClass(tuitionClass, tuitionClass);
             }
@@ -207,9 +199,7 @@ public class EditCommand extends Command {
 
             // Remove from all children's parent references
             for (PersonId childId : parent.getChildrenIds()) {
-                Optional<Person> childOpt = allPersons.stream()
-                    .filter(p -> p.getId().equals(childId))
-                    .findFirst();
+                Optional<Person> childOpt = model.findPersonById(childId);
                 if (childOpt.isPresent() && childOpt.get() instanceof Student) {
                     Student child = (Student) childOpt.get();
                     if (child.getParentId() != null && child.getParentId().equals(parent.getId())) {
@@ -223,8 +213,7 @@ public class EditCommand extends Command {
             Tutor tutor = (Tutor) personToEdit;
 
             // remove tutor from classes
-            List<TuitionClass> tutorClasses = allClasses.stream()
-                    .filter(c -> tutor.getId().equals(c.getTutorId())).toList();
+            List<TuitionClass> tutorClasses = model.getClassesByTutor(tutor);
             if (!tutorClasses.isEmpty()) {
                 for (TuitionClass tc : tutorClasses) {
                     tc.removeTutorId();
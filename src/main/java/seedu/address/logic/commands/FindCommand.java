@@ -2,14 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or whose name
+ * contains a partial name anywhere, best match first.
+ * Matching is case insensitive.
  */
 public class FindCommand extends Command {
 
@@ -18,18 +21,41 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: *KEYWORD...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "To match part of a name instead, ranked by how closely each name matches: "
+            + COMMAND_WORD + " n/PARTIAL_NAME\n"
+            + "Example: " + COMMAND_WORD + " n/ali";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final String nameFragment;
 
+    /**
+     * Creates a FindCommand that lists persons whose name contains any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.nameFragment = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists persons whose name contains {@code nameFragment}, best match first.
+     */
+    public FindCommand(String nameFragment) {
+        requireNonNull(nameFragment);
+        this.predicate = null;
+        this.nameFragment = nameFragment;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (nameFragment != null) {
+            model.updateFilteredPersonList(model.searchPersonIdsByName(nameFragment));
+        } else {
+            // Resolve the matches through the name index rather than testing every person's name
+            model.updateFilteredPersonList(model.findPersonIdsByNameKeywords(predicate.getKeywords()));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()) + "\n\n"
                 + "(To get back to the full list of contacts, run the 'list' command)");
@@ -47,11 +73,17 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(nameFragment, otherFindCommand.nameFragment);
     }
 
     @Override
     public String toString() {
+        if (nameFragment != null) {
+            return new ToStringBuilder(this)
+                    .add("nameFragment", nameFragment)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
@@ -56,11 +56,10 @@ public class GetClassDetailsCommand extends Command {
             throw new CommandException(MESSAGE_CLASS_NOT_FOUND);
         }
         TuitionClass tuitionClass = classOpt.get();
-        Optional<Tutor> tutorOptional = model.getAddressBook().getPersonList().stream()
-                    .filter(t -> t.getId().equals(tuitionClass.getTutorId()))
+        Optional<Tutor> tutorOptional = Optional.ofNullable(tuitionClass.getTutorId())
+                    .flatMap(model::findPersonById)
                     .filter(p -> p instanceof Tutor)
-                    .map(p -> (Tutor) p)
-                    .findFirst();
+                    .map(p -> (Tutor) p);
         List<Student> students = model.getStudentsInClass(tuitionClass);
         Set<PersonId> studentIds = students.stream()
                 .map(Student::getId)
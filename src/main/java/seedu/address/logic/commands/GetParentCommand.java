@@ -5,8 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.model.person.Category.PARENT;
 import static seedu.address.model.person.Category.STUDENT;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
@@ -43,18 +41,12 @@ public class GetParentCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> personList = model.getFilteredPersonList();
 
         // Find the student with the matching name
-        Person targetStudent = null;
-        for (Person person : personList) {
-            if (person.getCategory().equals(STUDENT)
-                    && person.getName().toString().trim().replaceAll("\\s+", " ")
-                    .equalsIgnoreCase(studentName.toString().trim().replaceAll("\\s+", " "))) {
-                targetStudent = person;
-                break;
-            }
-        }
+        Person targetStudent = model.findPersonByName(studentName).stream()
+                .filter(person -> person.getCategory().equals(STUDENT))
+                .findFirst()
+                .orElse(null);
 
         // If student is not found, throw an exception
         if (targetStudent == null) {
@@ -71,13 +63,9 @@ public class GetParentCommand extends Command {
         }
 
         // Find parent with the matching ID
-        Person targetParent = null;
-        for (Person person : personList) {
-            if (person.getCategory().equals(PARENT) && person.getId().equals(parentId)) {
-                targetParent = person;
-                break;
-            }
-        }
+        Person targetParent = model.findPersonById(parentId)
+                .filter(person -> person.getCategory().equals(PARENT))
+                .orElse(null);
 
         // Update UI to show parent
         model.updateFilteredPersonList(person ->
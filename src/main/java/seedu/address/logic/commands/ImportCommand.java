@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Replaces the address book with the contents of a data file, such as one saved before the data was moved to another
+ * storage format.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces all contacts and classes with those in the given data file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/addressbook.json";
+
+    public static final String MESSAGE_SUCCESS = "Imported %d contacts and %d classes from %s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Data file %s not found.";
+    public static final String MESSAGE_INVALID_FILE = "Data file %s could not be imported: %s";
+
+    private final Path filePath;
+    private final DataFileReader dataFileReader;
+
+    /**
+     * Creates an ImportCommand to import the data file at {@code filePath}, read by {@code dataFileReader}.
+     */
+    public ImportCommand(Path filePath, DataFileReader dataFileReader) {
+        requireNonNull(filePath);
+        requireNonNull(dataFileReader);
+        this.filePath = filePath;
+        this.dataFileReader = dataFileReader;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<ReadOnlyAddressBook> importedData;
+        try {
+            importedData = dataFileReader.read(filePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getMessage()));
+        }
+        if (importedData.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        model.setAddressBook(importedData.get());
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedData.get().getPersonList().size(),
+                importedData.get().getTuitionClassList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    /**
+     * Reads the address book stored in a data file, in whichever format it is stored.
+     */
+    @FunctionalInterface
+    public interface DataFileReader {
+        /**
+         * Returns the address book stored in the data file at {@code filePath}, or {@code Optional.empty()} if there
+         * is no such file.
+         *
+         * @throws DataLoadingException if the data file could not be read.
+         */
+        Optional<ReadOnlyAddressBook> read(Path filePath) throws DataLoadingException;
+    }
+}
@@ -55,8 +55,6 @@ public class LinkParentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model);
-        List<Person> personList = model.getAddressBook().getPersonList();
-
         // Find the student
         List<Person> personsNamedStudent = model.findPersonByName(studentName);
         if (personsNamedStudent.isEmpty()) {
@@ -93,9 +91,8 @@ public class LinkParentCommand extends Command {
 
         if (student.getParentId() != null) {
             hasOldParent = true;
-            Optional<Person> oldParentOpt = personList.stream()
-                    .filter(p -> p instanceof Parent && p.getId().equals(student.getParentId()))
-                    .findFirst();
+            Optional<Person> oldParentOpt = model.findPersonById(student.getParentId())
+                    .filter(p -> p instanceof Parent);
             if (oldParentOpt.isPresent() && oldParentOpt.get().equals(parent)) {
                 throw new CommandException(
                         String.format(MESSAGE_LINK_SAME_PARENT, parent.getName(), student.getName()));
@@ -5,11 +5,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Optional;
-import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Category;
-import seedu.address.model.person.PersonId;
 
 /**
  * Lists people in the address book to the user.
@@ -65,17 +63,13 @@ public class ListCommand extends Command {
         }
 
         Category cat = category.get();
-        Set<PersonId> listedPersons = model.getPersonIdsByCategory(cat);
+        model.updateFilteredPersonList(cat);
 
         // Category has no one
-        if (listedPersons.isEmpty()) {
-            model.updateFilteredPersonList(p -> false);
+        if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_EMPTY_CATEGORY, cat.toString()));
         }
 
-        // Update UI to show filtered list
-        model.updateFilteredPersonList(p -> listedPersons.contains(p.getId()));
-
         return new CommandResult(String.format(MESSAGE_SUCCESS, cat.toString()));
     }
 
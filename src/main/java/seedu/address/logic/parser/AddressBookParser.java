@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -12,6 +13,7 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -25,6 +27,16 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final ImportCommand.DataFileReader dataFileReader;
+
+    /**
+     * Creates an {@code AddressBookParser} whose import commands read data files with {@code dataFileReader}.
+     */
+    public AddressBookParser(ImportCommand.DataFileReader dataFileReader) {
+        requireNonNull(dataFileReader);
+        this.dataFileReader = dataFileReader;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -95,6 +107,9 @@ public class AddressBookParser {
         case "getclassdetails":
             return new GetClassDetailsCommandParser().parse(arguments);
 
+        case "import":
+            return new ImportCommandParser(dataFileReader).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Arrays;
 
@@ -30,6 +31,10 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_NAME.getPrefix())) {
+            return parseNameFragment(args);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
         for (String keyword : nameKeywords) {
             if (!keyword.matches(VALIDATION_REGEX)) {
@@ -39,4 +44,22 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
+
+    /**
+     * Parses {@code args} of the form {@code n/PARTIAL_NAME} into a FindCommand that matches part of a name.
+     */
+    private FindCommand parseNameFragment(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+
+        String nameFragment = argMultimap.getValue(PREFIX_NAME).orElse("").trim();
+        if (!argMultimap.getPreamble().isEmpty() || nameFragment.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (!nameFragment.matches(VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_CONSTRAINTS);
+        }
+        return new FindCommand(nameFragment);
+    }
 }
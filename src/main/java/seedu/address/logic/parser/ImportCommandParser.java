@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ImportCommand} object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    private final ImportCommand.DataFileReader dataFileReader;
+
+    /**
+     * Creates an {@code ImportCommandParser} whose commands read data files with {@code dataFileReader}.
+     */
+    public ImportCommandParser(ImportCommand.DataFileReader dataFileReader) {
+        requireNonNull(dataFileReader);
+        this.dataFileReader = dataFileReader;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ImportCommand}.
+     *
+     * @param args raw argument string following the command word
+     * @return {@code ImportCommand} importing the data file at the given path
+     * @throws ParseException if the input is not a valid file path
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(Paths.get(trimmedArgs), dataFileReader);
+    }
+}
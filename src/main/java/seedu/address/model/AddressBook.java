@@ -4,14 +4,20 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.model.tuitionclass.UniqueClassList;
 
@@ -23,6 +29,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueClassList tuitionClasses;
+    private final RelationshipIndex relationships;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -34,6 +42,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         tuitionClasses = new UniqueClassList();
+        relationships = new RelationshipIndex();
     }
 
     public AddressBook() {}
@@ -53,7 +62,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        relationships.reindexPersons(this.persons);
     }
 
     /**
@@ -62,8 +73,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTuitionClasses(newData.getTuitionClassList());
+        resetData(newData.getPersonList(), newData.getTuitionClassList());
+    }
+
+    /**
+     * Resets the existing data of this {@code AddressBook} with {@code persons} and {@code tuitionClasses}.
+     * Neither list may contain duplicates. Uniqueness is checked by hashing in one pass over each list, and the
+     * person and tuition class lists each notify their listeners once, so this is the preferred way to load a
+     * large address book.
+     */
+    public void resetData(List<Person> persons, List<TuitionClass> tuitionClasses) {
+        requireNonNull(persons);
+        requireNonNull(tuitionClasses);
+
+        setPersons(persons);
+        setTuitionClasses(tuitionClasses);
     }
 
     //// person-level operations
@@ -76,12 +100,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    public Optional<Person> findPersonById(PersonId id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the person with the same identity as {@code name}, if any.
+     */
+    public Optional<Person> findPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns the ids of persons whose name contains any of {@code keywords} as a whole word, ignoring case,
+     * ordered by name.
+     */
+    public List<PersonId> findPersonIdsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findIdsByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the ids of persons whose name contains {@code fragment}, ignoring case, best match first.
+     */
+    public List<PersonId> searchPersonIdsByName(String fragment) {
+        requireNonNull(fragment);
+        return persons.searchIdsByName(fragment);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        relationships.indexPerson(p);
     }
 
     /**
@@ -90,9 +149,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
+        version++;
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (target.getId().equals(editedPerson.getId())) {
+            relationships.unindexPerson(target.getId());
+        } else {
+            relationships.removePerson(target.getId());
+        }
+        relationships.indexPerson(editedPerson);
     }
 
     /**
@@ -100,7 +166,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
+        relationships.removePerson(key.getId());
     }
 
     /**
@@ -108,7 +176,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The parent must not already exist in the address book.
      */
     public void addParent(Parent parent) {
-        persons.add(parent);
+        addPerson(parent);
     }
 
     /**
@@ -116,7 +184,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The tutor must not already exist in the address book.
      */
     public void addTutor(Tutor tutor) {
-        persons.add(tutor);
+        addPerson(tutor);
     }
 
     /**
@@ -124,7 +192,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The student must not already exist in the address book.
      */
     public void addStudent(Student student) {
-        persons.add(student);
+        addPerson(student);
     }
 
     //// TuitionClass level operations
@@ -141,7 +209,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The class must not already exist in the address book.
      */
     public void addTuitionClass(TuitionClass t) {
+        version++;
         tuitionClasses.add(t);
+        relationships.indexClass(t);
     }
 
     /**
@@ -151,12 +221,70 @@ public class AddressBook implements ReadOnlyAddressBook {
      * tuition class in the address book.
      */
     public void setTuitionClass(TuitionClass target, TuitionClass editedTuitionClass) {
+        version++;
         requireNonNull(editedTuitionClass);
         tuitionClasses.setTuitionClass(target, editedTuitionClass);
+        relationships.unindexClass(target.getClassId());
+        relationships.indexClass(editedTuitionClass);
+    }
+
+    /**
+     * Returns the tuition class at the timeslot identified by {@code classId}, if any.
+     */
+    public Optional<TuitionClass> findTuitionClass(ClassId classId) {
+        requireNonNull(classId);
+        return tuitionClasses.find(classId);
     }
 
     public void setTuitionClasses(List<TuitionClass> tuitionClasses) {
+        version++;
         this.tuitionClasses.setTuitionClasses(tuitionClasses);
+        relationships.reindexClasses(this.tuitionClasses);
+    }
+
+    //// relationship queries
+    // Relationships are mutated in place on persons and classes. Callers must pass the mutated entity back through
+    // setPerson or setTuitionClass for these queries to reflect the change.
+
+    /**
+     * Returns the ids of students whose linked parent is {@code parentId}.
+     */
+    public Set<PersonId> getStudentIdsLinkedTo(PersonId parentId) {
+        requireNonNull(parentId);
+        return relationships.getStudentsLinkedTo(parentId);
+    }
+
+    /**
+     * Returns the ids of parents that list {@code studentId} among their children.
+     */
+    public Set<PersonId> getParentIdsOf(PersonId studentId) {
+        requireNonNull(studentId);
+        return relationships.getParentsOf(studentId);
+    }
+
+    /**
+     * Returns the timeslots of the tuition classes taught by {@code tutorId}.
+     */
+    public Set<ClassId> getClassIdsTaughtBy(PersonId tutorId) {
+        requireNonNull(tutorId);
+        return relationships.getClassesTaughtBy(tutorId);
+    }
+
+    /**
+     * Returns the timeslots of the tuition classes attended by {@code studentId}.
+     */
+    public Set<ClassId> getClassIdsAttendedBy(PersonId studentId) {
+        requireNonNull(studentId);
+        return relationships.getClassesAttendedBy(studentId);
+    }
+
+    /**
+     * Returns the ids of parents of the students in classes taught by {@code tutorId}.
+     * A parent of a student is either its linked parent or a parent that lists it as a child.
+     */
+    public Set<PersonId> getParentIdsOfStudentsTaughtBy(PersonId tutorId) {
+        requireNonNull(tutorId);
+        return relationships.getParentsOfStudentsTaughtBy(tutorId);
     }
 
     @Override
@@ -166,6 +294,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a counter that increases whenever this address book is modified through one of its mutators.
+     * Callers can compare two readings to tell whether anything changed in between, without comparing contents.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -178,6 +314,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable view of the persons of {@code category}, kept in the order of {@link #getPersonList()}.
+     */
+    public ObservableList<Person> getPersonList(Category category) {
+        requireNonNull(category);
+        return persons.asUnmodifiableObservableList(category);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,7 +3,6 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -69,6 +68,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that increases whenever the address book is modified.
+     * Two equal readings mean the address book was not modified in between.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -125,11 +130,21 @@ public interface Model {
     Optional<Person> findPersonById(PersonId id);
 
     /**
-     * Finds and returns a set of PersonId belonging to a specified category.
-     * @param category The category of people to be retrieved.
-     * @return A Set containing PersonId found.
+     * Finds and returns the ids of persons whose name contains any of the given keywords as a whole word.
+     * Matching is case insensitive.
+     * @param keywords The keywords to search for.
+     * @return A List containing the PersonId of every matching person, ordered by name.
+     */
+    List<PersonId> findPersonIdsByNameKeywords(List<String> keywords);
+
+    /**
+     * Finds and returns the ids of persons whose name contains the given fragment anywhere, best match first.
+     * Matching is case insensitive. An exact name ranks above a name prefix, which ranks above the start of a
+     * later word, which ranks above any other substring.
+     * @param fragment The partial name to search for.
+     * @return A List containing the PersonId of every matching person, in rank order.
      */
-    Set<PersonId> getPersonIdsByCategory(Category category);
+    List<PersonId> searchPersonIdsByName(String fragment);
 
     //=========== TuitionClass =====================================================================
 
@@ -171,6 +186,13 @@ public interface Model {
      */
     List<TuitionClass> getClassesByTutor(Tutor tutor);
 
+    /**
+     * Returns all tuition classes attended by a specific student.
+     * @param student The student whose classes are to be retrieved.
+     * @return A list of {@code TuitionClass} objects the given student is enrolled in.
+     */
+    List<TuitionClass> getClassesByStudent(Student student);
+
     /**
      * Retrieves all students enrolled in a given tuition class, sorted alphabetically by name.
      *
@@ -201,6 +223,22 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filtered person list to show only the persons with {@code personIds}, in that order.
+     * The persons are looked up by id, so no other person is visited. Ids without a person are skipped.
+     * While shown, listed persons are kept up to date as they are edited or deleted.
+     * @throws NullPointerException if {@code personIds} or any of its ids is null.
+     */
+    void updateFilteredPersonList(List<PersonId> personIds);
+
+    /**
+     * Updates the filtered person list to show only the persons of {@code category}.
+     * The list switches to a partition that is maintained as persons are added, edited and deleted, so no
+     * person outside {@code category} is visited.
+     * @throws NullPointerException if {@code category} is null.
+     */
+    void updateFilteredPersonList(Category category);
+
     /**
      * Unlinks a parent from all linked students.
      * @param parentId The ID of the parent to unlink.
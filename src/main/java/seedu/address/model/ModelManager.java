@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +28,7 @@ import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.model.util.SwitchableListView;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -34,7 +38,10 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final SwitchableListView<Person> shownPersons;
     private final FilteredList<Person> filteredPersons;
+    private final ObservableList<Person> listedPersons = FXCollections.observableArrayList();
+    private final Set<PersonId> listedIds = new HashSet<>();
     private final FilteredList<TuitionClass> filteredTuitionClasses;
 
     /**
@@ -47,7 +54,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new SwitchableListView<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(shownPersons);
+        this.addressBook.getPersonList().addListener(this::syncListedPersons);
         filteredTuitionClasses = new FilteredList<>(this.addressBook.getTuitionClassList());
     }
 
@@ -102,6 +111,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -165,40 +179,37 @@ public class ModelManager implements Model {
     @Override
     public List<Person> findPersonByName(Name name) {
         requireNonNull(name);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getName().toString().trim().replaceAll("\\s+", " ")
-                        .equalsIgnoreCase(name.toString().trim().replaceAll("\\s+", " ")))
-                .toList();
+        return addressBook.findPersonByName(name).stream().toList();
     }
 
     @Override
     public Optional<Person> findPersonById(PersonId id) {
         requireNonNull(id);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getId().equals(id))
-                .findFirst();
+        return addressBook.findPersonById(id);
     }
 
     @Override
-    public Set<PersonId> getPersonIdsByCategory(Category category) {
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getCategory() == category)
-                .map(p -> p.getId())
-                .collect(Collectors.toSet());
+    public List<PersonId> findPersonIdsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonIdsByNameKeywords(keywords);
+    }
+
+    @Override
+    public List<PersonId> searchPersonIdsByName(String fragment) {
+        requireNonNull(fragment);
+        return addressBook.searchPersonIdsByName(fragment);
     }
 
     @Override
     public void unlinkParentFromStudent(PersonId parentId) {
         requireNonNull(parentId);
 
-        List<Person> allPersons = addressBook.getPersonList();
-        for (Person person : allPersons) {
-            if (person instanceof Student) {
-                Student student = (Student) person;
-                if (parentId.equals(student.getParentId())) {
-                    student.clearParent();
-                    break;
-                }
+        for (PersonId studentId : addressBook.getStudentIdsLinkedTo(parentId)) {
+            Optional<Person> person = addressBook.findPersonById(studentId);
+            if (person.isPresent() && person.get() instanceof Student) {
+                Student student = (Student) person.get();
+                student.clearParent();
+                addressBook.setPerson(student, student);
             }
         }
     }
@@ -206,16 +217,13 @@ public class ModelManager implements Model {
     @Override
     public void unlinkStudentFromParent(PersonId studentId) {
         requireNonNull(studentId);
-        List<Person> allPersons = addressBook.getPersonList();
-
-        for (Person person : allPersons) {
-            if (person instanceof Parent) {
-                Parent parent = (Parent) person;
-                Set<PersonId> children = parent.getChildrenIds();
-                if (children.contains(studentId)) {
-                    parent.removeChildId(studentId);
-                    addressBook.setPerson(parent, parent);
-                }
+
+        for (PersonId parentId : addressBook.getParentIdsOf(studentId)) {
+            Optional<Person> person = addressBook.findPersonById(parentId);
+            if (person.isPresent() && person.get() instanceof Parent) {
+                Parent parent = (Parent) person.get();
+                parent.removeChildId(studentId);
+                addressBook.setPerson(parent, parent);
             }
         }
     }
@@ -223,25 +231,24 @@ public class ModelManager implements Model {
     @Override
     public void unlinkTutorFromClasses(PersonId tutorId) {
         requireNonNull(tutorId);
-        List<TuitionClass> allClasses = addressBook.getTuitionClassList();
 
-        for (TuitionClass tuitionClass : allClasses) {
-            if (tutorId.equals(tuitionClass.getTutorId())) {
+        for (ClassId classId : addressBook.getClassIdsTaughtBy(tutorId)) {
+            addressBook.findTuitionClass(classId).ifPresent(tuitionClass -> {
                 tuitionClass.removeTutorId();
-            }
+                addressBook.setTuitionClass(tuitionClass, tuitionClass);
+            });
         }
     }
 
     @Override
     public void unlinkStudentFromClasses(PersonId studentId) {
         requireNonNull(studentId);
-        List<TuitionClass> allClasses = addressBook.getTuitionClassList();
 
-        for (TuitionClass tuitionClass : allClasses) {
-            if (tuitionClass.getStudentIds().contains(studentId)) {
+        for (ClassId classId : addressBook.getClassIdsAttendedBy(studentId)) {
+            addressBook.findTuitionClass(classId).ifPresent(tuitionClass -> {
                 tuitionClass.removeStudentId(studentId);
-                break;
-            }
+                addressBook.setTuitionClass(tuitionClass, tuitionClass);
+            });
         }
     }
 
@@ -268,9 +275,7 @@ public class ModelManager implements Model {
     @Override
     public Optional<TuitionClass> findTuitionClass(ClassId classId) {
         requireNonNull(classId);
-        return addressBook.getTuitionClassList().stream()
-                .filter(tuitionClass -> tuitionClass.getClassId().equals(classId))
-                .findFirst();
+        return addressBook.findTuitionClass(classId);
     }
 
     @Override
@@ -280,15 +285,32 @@ public class ModelManager implements Model {
 
     @Override
     public List<TuitionClass> getClassesByTutor(Tutor tutor) {
-        return getTuitionClassList().stream()
-                .filter(tuitionClass -> tutor.getId().equals(tuitionClass.getTutorId()))
+        requireNonNull(tutor);
+        return toTuitionClasses(addressBook.getClassIdsTaughtBy(tutor.getId()));
+    }
+
+    @Override
+    public List<TuitionClass> getClassesByStudent(Student student) {
+        requireNonNull(student);
+        return toTuitionClasses(addressBook.getClassIdsAttendedBy(student.getId()));
+    }
+
+    /**
+     * Resolves {@code classIds} to their tuition classes, ordered by timeslot.
+     */
+    private List<TuitionClass> toTuitionClasses(Set<ClassId> classIds) {
+        return classIds.stream()
+                .sorted(Comparator.comparingInt(ClassId::toSlotIndex))
+                .map(addressBook::findTuitionClass)
+                .flatMap(Optional::stream)
                 .toList();
     }
 
     @Override
     public List<Student> getStudentsInClass(TuitionClass tuitionClass) {
-        return getAddressBook().getPersonList().stream()
-                .filter(t -> tuitionClass.getStudentIds().contains(t.getId()))
+        return tuitionClass.getStudentIds().stream()
+                .map(addressBook::findPersonById)
+                .flatMap(Optional::stream)
                 .filter(p -> p instanceof Student)
                 .map(t -> (Student) t)
                 .sorted(Comparator.comparing(a -> a.getName().toString()))
@@ -322,7 +344,76 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        shownPersons.setSource(addressBook.getPersonList());
         filteredPersons.setPredicate(predicate);
+        clearListedPersons();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Category category) {
+        requireNonNull(category);
+        shownPersons.setSource(addressBook.getPersonList(category));
+        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        clearListedPersons();
+    }
+
+    @Override
+    public void updateFilteredPersonList(List<PersonId> personIds) {
+        requireAllNonNull(personIds);
+        List<Person> persons = new ArrayList<>(personIds.size());
+        for (PersonId id : personIds) {
+            addressBook.findPersonById(id).ifPresent(persons::add);
+        }
+
+        // Detach the old list before refilling it, so its listeners are not told of the refill
+        shownPersons.setSource(addressBook.getPersonList());
+        listedIds.clear();
+        persons.forEach(person -> listedIds.add(person.getId()));
+        listedPersons.setAll(persons);
+        shownPersons.setSource(listedPersons);
+        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    private void clearListedPersons() {
+        listedIds.clear();
+        listedPersons.clear();
+    }
+
+    /**
+     * Keeps the listed persons in step with the address book while they are shown: an edited person is replaced
+     * where it is listed, and a deleted person is dropped. Only changes to listed persons cost more than a lookup.
+     */
+    private void syncListedPersons(ListChangeListener.Change<? extends Person> change) {
+        if (listedIds.isEmpty()) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            Set<PersonId> replacedIds = new HashSet<>();
+            for (Person added : change.getAddedSubList()) {
+                if (listedIds.contains(added.getId())) {
+                    replacedIds.add(added.getId());
+                    replaceListedPerson(added);
+                }
+            }
+            for (Person removed : change.getRemoved()) {
+                if (listedIds.contains(removed.getId()) && !replacedIds.contains(removed.getId())) {
+                    listedIds.remove(removed.getId());
+                    listedPersons.removeIf(person -> person.getId().equals(removed.getId()));
+                }
+            }
+        }
+    }
+
+    private void replaceListedPerson(Person person) {
+        for (int i = 0; i < listedPersons.size(); i++) {
+            if (listedPersons.get(i).getId().equals(person.getId())) {
+                listedPersons.set(i, person);
+                return;
+            }
+        }
     }
 
     @Override
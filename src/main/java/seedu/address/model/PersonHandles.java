@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Assigns each person in the model a dense, non-negative int handle, so that relationships between persons can be
+ * stored in arrays and bitsets indexed by handle instead of in sets of {@code PersonId}.
+ *
+ * Handles are internal to the model and never persisted. A released handle is reused by the next person assigned,
+ * so the handles in use stay within {@code [0, capacity())}.
+ */
+class PersonHandles {
+
+    /** Returned when an id has no handle. */
+    static final int NO_HANDLE = -1;
+
+    private final Map<PersonId, Integer> handlesById = new HashMap<>();
+    private final List<PersonId> idsByHandle = new ArrayList<>();
+    private final BitSet freeHandles = new BitSet();
+
+    /**
+     * Returns the handle of {@code id}, assigning the lowest free handle if it has none.
+     */
+    int assign(PersonId id) {
+        requireNonNull(id);
+        Integer existing = handlesById.get(id);
+        if (existing != null) {
+            return existing;
+        }
+
+        int handle = freeHandles.nextSetBit(0);
+        if (handle == NO_HANDLE) {
+            handle = idsByHandle.size();
+            idsByHandle.add(id);
+        } else {
+            freeHandles.clear(handle);
+            idsByHandle.set(handle, id);
+        }
+        handlesById.put(id, handle);
+        return handle;
+    }
+
+    /**
+     * Releases the handle of {@code id} for reuse.
+     *
+     * @return the released handle, or {@link #NO_HANDLE} if {@code id} had none.
+     */
+    int release(PersonId id) {
+        requireNonNull(id);
+        Integer handle = handlesById.remove(id);
+        if (handle == null) {
+            return NO_HANDLE;
+        }
+        idsByHandle.set(handle, null);
+        freeHandles.set(handle);
+        return handle;
+    }
+
+    /**
+     * Returns the handle of {@code id}, or {@link #NO_HANDLE} if it has none.
+     */
+    int handleOf(PersonId id) {
+        Integer handle = handlesById.get(id);
+        return handle == null ? NO_HANDLE : handle;
+    }
+
+    /**
+     * Returns the id holding {@code handle}, or null if the handle is free.
+     */
+    PersonId idOf(int handle) {
+        return idsByHandle.get(handle);
+    }
+
+    /**
+     * Returns an upper bound on the handles in use.
+     */
+    int capacity() {
+        return idsByHandle.size();
+    }
+
+    void clear() {
+        handlesById.clear();
+        idsByHandle.clear();
+        freeHandles.clear();
+    }
+}
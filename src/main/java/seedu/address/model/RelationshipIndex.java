@@ -0,0 +1,323 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Reverse indexes over the relationships stored on persons and tuition classes, so that questions such as
+ * "which classes does this tutor teach" cost O(degree) rather than a scan over every person or class.
+ *
+ * Relationships are mutated in place on the entities (e.g. {@link TuitionClass#setTutorId(PersonId)}), so the
+ * index records the edges it last saw for each entity. Re-indexing an entity first drops those recorded edges,
+ * which keeps the index correct even after the entity itself has already been changed.
+ *
+ * The reverse adjacency is keyed by the dense {@link PersonHandles} of persons: person-to-person edges are kept as
+ * bitsets of handles, and person-to-class edges as 64-bit masks of timeslot indexes. A handle is assigned the first
+ * time an id takes part in an edge and is only released when the person is removed.
+ */
+class RelationshipIndex {
+
+    private static final BitSet EMPTY_ROW = new BitSet();
+
+    static {
+        assert ClassId.SLOT_COUNT <= Long.SIZE : "timeslot masks must fit in a long";
+    }
+
+    private final PersonHandles handles = new PersonHandles();
+
+    // Edges last recorded for each entity
+    private final Map<PersonId, PersonId> recordedParentOfStudent = new HashMap<>();
+    private final Map<PersonId, Set<PersonId>> recordedChildrenOfParent = new HashMap<>();
+    private final Map<ClassId, PersonId> recordedTutorOfClass = new HashMap<>();
+    private final Map<ClassId, Set<PersonId>> recordedStudentsOfClass = new HashMap<>();
+
+    // Reverse adjacency, indexed by person handle or timeslot index
+    private BitSet[] studentsByLinkedParent = new BitSet[0];
+    private BitSet[] parentsByChild = new BitSet[0];
+    private long[] classesByTutor = new long[0];
+    private long[] classesByStudent = new long[0];
+    private final BitSet[] studentsByClass = new BitSet[ClassId.SLOT_COUNT];
+
+    /**
+     * Records the relationships currently held by {@code person}, replacing any recorded for the same id.
+     */
+    void indexPerson(Person person) {
+        requireNonNull(person);
+        PersonId id = person.getId();
+        unindexPerson(id);
+        int handle = assignHandle(id);
+
+        if (person instanceof Student && person.getParentId() != null) {
+            recordedParentOfStudent.put(id, person.getParentId());
+            int parentHandle = assignHandle(person.getParentId());
+            row(studentsByLinkedParent, parentHandle).set(handle);
+        }
+        if (person instanceof Parent) {
+            Set<PersonId> childrenIds = new HashSet<>(((Parent) person).getChildrenIds());
+            if (!childrenIds.isEmpty()) {
+                recordedChildrenOfParent.put(id, childrenIds);
+                for (PersonId childId : childrenIds) {
+                    int childHandle = assignHandle(childId);
+                    row(parentsByChild, childHandle).set(handle);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the relationships recorded for the person with the given {@code id}.
+     */
+    void unindexPerson(PersonId id) {
+        requireNonNull(id);
+        int handle = handles.handleOf(id);
+        PersonId parentId = recordedParentOfStudent.remove(id);
+        if (parentId != null) {
+            clearBit(studentsByLinkedParent, handles.handleOf(parentId), handle);
+        }
+        Set<PersonId> childrenIds = recordedChildrenOfParent.remove(id);
+        if (childrenIds != null) {
+            childrenIds.forEach(childId -> clearBit(parentsByChild, handles.handleOf(childId), handle));
+        }
+    }
+
+    /**
+     * Drops the relationships recorded for the person with the given {@code id}, as well as those recorded by other
+     * entities towards it, and releases its handle for reuse.
+     */
+    void removePerson(PersonId id) {
+        requireNonNull(id);
+        unindexPerson(id);
+        int handle = handles.release(id);
+        if (handle == PersonHandles.NO_HANDLE) {
+            return;
+        }
+        studentsByLinkedParent[handle] = null;
+        parentsByChild[handle] = null;
+        classesByTutor[handle] = 0;
+        classesByStudent[handle] = 0;
+        for (BitSet students : studentsByClass) {
+            if (students != null) {
+                students.clear(handle);
+            }
+        }
+    }
+
+    /**
+     * Records the relationships currently held by {@code tuitionClass}, replacing any recorded for the same slot.
+     */
+    void indexClass(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        ClassId classId = tuitionClass.getClassId();
+        unindexClass(classId);
+
+        if (tuitionClass.getTutorId() != null) {
+            recordedTutorOfClass.put(classId, tuitionClass.getTutorId());
+        }
+        Set<PersonId> studentIds = new HashSet<>(tuitionClass.getStudentIds());
+        if (!studentIds.isEmpty()) {
+            recordedStudentsOfClass.put(classId, studentIds);
+        }
+        linkRecordedClass(classId);
+    }
+
+    /**
+     * Drops the relationships recorded for the tuition class at {@code classId}.
+     */
+    void unindexClass(ClassId classId) {
+        requireNonNull(classId);
+        int slot = classId.toSlotIndex();
+        long slotMask = ~(1L << slot);
+        PersonId tutorId = recordedTutorOfClass.remove(classId);
+        int tutorHandle = tutorId == null ? PersonHandles.NO_HANDLE : handles.handleOf(tutorId);
+        if (tutorHandle != PersonHandles.NO_HANDLE) {
+            classesByTutor[tutorHandle] &= slotMask;
+        }
+        Set<PersonId> studentIds = recordedStudentsOfClass.remove(classId);
+        if (studentIds != null) {
+            for (PersonId studentId : studentIds) {
+                int studentHandle = handles.handleOf(studentId);
+                if (studentHandle != PersonHandles.NO_HANDLE) {
+                    classesByStudent[studentHandle] &= slotMask;
+                }
+            }
+        }
+        studentsByClass[slot] = null;
+    }
+
+    /**
+     * Replaces all recorded person relationships with those held by {@code persons}.
+     * Handles are reassigned from scratch, so class relationships are relinked as well.
+     */
+    void reindexPersons(Iterable<Person> persons) {
+        recordedParentOfStudent.clear();
+        recordedChildrenOfParent.clear();
+        handles.clear();
+        studentsByLinkedParent = new BitSet[0];
+        parentsByChild = new BitSet[0];
+        classesByTutor = new long[0];
+        classesByStudent = new long[0];
+        Arrays.fill(studentsByClass, null);
+
+        persons.forEach(person -> assignHandle(person.getId()));
+        persons.forEach(this::indexPerson);
+        Set<ClassId> recordedClassIds = new HashSet<>(recordedTutorOfClass.keySet());
+        recordedClassIds.addAll(recordedStudentsOfClass.keySet());
+        recordedClassIds.forEach(this::linkRecordedClass);
+    }
+
+    /**
+     * Replaces all recorded class relationships with those held by {@code tuitionClasses}.
+     */
+    void reindexClasses(Iterable<TuitionClass> tuitionClasses) {
+        recordedTutorOfClass.clear();
+        recordedStudentsOfClass.clear();
+        Arrays.fill(classesByTutor, 0);
+        Arrays.fill(classesByStudent, 0);
+        Arrays.fill(studentsByClass, null);
+        tuitionClasses.forEach(this::indexClass);
+    }
+
+    /** Returns the ids of students whose linked parent is {@code parentId}. */
+    Set<PersonId> getStudentsLinkedTo(PersonId parentId) {
+        return toIds(rowOf(studentsByLinkedParent, handles.handleOf(parentId)));
+    }
+
+    /** Returns the ids of parents that list {@code studentId} as a child. */
+    Set<PersonId> getParentsOf(PersonId studentId) {
+        return toIds(rowOf(parentsByChild, handles.handleOf(studentId)));
+    }
+
+    /** Returns the timeslots of classes taught by {@code tutorId}. */
+    Set<ClassId> getClassesTaughtBy(PersonId tutorId) {
+        return toClassIds(maskOf(classesByTutor, handles.handleOf(tutorId)));
+    }
+
+    /** Returns the timeslots of classes attended by {@code studentId}. */
+    Set<ClassId> getClassesAttendedBy(PersonId studentId) {
+        return toClassIds(maskOf(classesByStudent, handles.handleOf(studentId)));
+    }
+
+    /**
+     * Returns the ids of parents of the students in classes taught by {@code tutorId}, where a parent of a student
+     * is either its linked parent or a parent that lists it as a child.
+     */
+    Set<PersonId> getParentsOfStudentsTaughtBy(PersonId tutorId) {
+        long slots = maskOf(classesByTutor, handles.handleOf(tutorId));
+        BitSet students = new BitSet();
+        for (long remaining = slots; remaining != 0; remaining &= remaining - 1) {
+            students.or(rowOf(studentsByClass, Long.numberOfTrailingZeros(remaining)));
+        }
+
+        BitSet parents = new BitSet();
+        for (int student = students.nextSetBit(0); student >= 0; student = students.nextSetBit(student + 1)) {
+            parents.or(rowOf(parentsByChild, student));
+            PersonId linkedParentId = recordedParentOfStudent.get(handles.idOf(student));
+            int linkedParent = linkedParentId == null ? PersonHandles.NO_HANDLE : handles.handleOf(linkedParentId);
+            if (linkedParent != PersonHandles.NO_HANDLE) {
+                parents.set(linkedParent);
+            }
+        }
+        return toIds(parents);
+    }
+
+    /**
+     * Adds the reverse edges of the relationships recorded for the tuition class at {@code classId}.
+     */
+    private void linkRecordedClass(ClassId classId) {
+        int slot = classId.toSlotIndex();
+        PersonId tutorId = recordedTutorOfClass.get(classId);
+        if (tutorId != null) {
+            int tutorHandle = assignHandle(tutorId);
+            classesByTutor[tutorHandle] |= 1L << slot;
+        }
+        Set<PersonId> studentIds = recordedStudentsOfClass.get(classId);
+        if (studentIds != null) {
+            for (PersonId studentId : studentIds) {
+                int studentHandle = assignHandle(studentId);
+                classesByStudent[studentHandle] |= 1L << slot;
+                row(studentsByClass, slot).set(studentHandle);
+            }
+        }
+    }
+
+    /**
+     * Returns the handle of {@code id}, assigning one if needed and growing the handle-indexed arrays to hold it.
+     * Callers must read those arrays only after this returns, since they may be replaced.
+     */
+    private int assignHandle(PersonId id) {
+        int handle = handles.assign(id);
+        ensureCapacity(handle);
+        return handle;
+    }
+
+    /**
+     * Grows the handle-indexed arrays to hold {@code handle}.
+     */
+    private void ensureCapacity(int handle) {
+        if (handle < classesByTutor.length) {
+            return;
+        }
+        int newLength = Math.max(handle + 1, classesByTutor.length * 2);
+        studentsByLinkedParent = Arrays.copyOf(studentsByLinkedParent, newLength);
+        parentsByChild = Arrays.copyOf(parentsByChild, newLength);
+        classesByTutor = Arrays.copyOf(classesByTutor, newLength);
+        classesByStudent = Arrays.copyOf(classesByStudent, newLength);
+    }
+
+    private static BitSet row(BitSet[] rows, int index) {
+        if (rows[index] == null) {
+            rows[index] = new BitSet();
+        }
+        return rows[index];
+    }
+
+    private static BitSet rowOf(BitSet[] rows, int index) {
+        if (index == PersonHandles.NO_HANDLE || index >= rows.length || rows[index] == null) {
+            return EMPTY_ROW;
+        }
+        return rows[index];
+    }
+
+    private static long maskOf(long[] masks, int handle) {
+        return handle == PersonHandles.NO_HANDLE || handle >= masks.length ? 0 : masks[handle];
+    }
+
+    private static void clearBit(BitSet[] rows, int index, int bit) {
+        if (index != PersonHandles.NO_HANDLE && bit != PersonHandles.NO_HANDLE && rows[index] != null) {
+            rows[index].clear(bit);
+        }
+    }
+
+    /**
+     * Returns the ids holding the handles set in {@code handleSet}, as an immutable set so callers may mutate the
+     * model while iterating it.
+     */
+    private Set<PersonId> toIds(BitSet handleSet) {
+        Set<PersonId> ids = new HashSet<>();
+        for (int handle = handleSet.nextSetBit(0); handle >= 0; handle = handleSet.nextSetBit(handle + 1)) {
+            ids.add(handles.idOf(handle));
+        }
+        return Set.copyOf(ids);
+    }
+
+    private static Set<ClassId> toClassIds(long slotMask) {
+        Set<ClassId> classIds = new HashSet<>();
+        for (long remaining = slotMask; remaining != 0; remaining &= remaining - 1) {
+            classIds.add(ClassId.fromSlotIndex(Long.numberOfTrailingZeros(remaining)));
+        }
+        return Set.copyOf(classIds);
+    }
+}
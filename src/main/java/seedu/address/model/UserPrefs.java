@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private String addressBookStorageBackend = "json";
+    private boolean addressBookLazyLoadingEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageBackend(newUserPrefs.getAddressBookStorageBackend());
+        setAddressBookLazyLoadingEnabled(newUserPrefs.isAddressBookLazyLoadingEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the name of the storage backend that stores the address book.
+     */
+    public String getAddressBookStorageBackend() {
+        return addressBookStorageBackend;
+    }
+
+    public void setAddressBookStorageBackend(String addressBookStorageBackend) {
+        requireNonNull(addressBookStorageBackend);
+        this.addressBookStorageBackend = addressBookStorageBackend;
+    }
+
+    /**
+     * Returns true if only the identity and relationships of each person are loaded from a json data file at
+     * startup, and their contact details are fetched from the file when first needed.
+     * Only the json based storage backends support this.
+     */
+    public boolean isAddressBookLazyLoadingEnabled() {
+        return addressBookLazyLoadingEnabled;
+    }
+
+    public void setAddressBookLazyLoadingEnabled(boolean addressBookLazyLoadingEnabled) {
+        this.addressBookLazyLoadingEnabled = addressBookLazyLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +98,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageBackend.equals(otherUserPrefs.addressBookStorageBackend)
+                && addressBookLazyLoadingEnabled == otherUserPrefs.addressBookLazyLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageBackend,
+                addressBookLazyLoadingEnabled);
     }
 
     @Override
@@ -82,6 +114,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage backend : " + addressBookStorageBackend);
+        sb.append("\nLazy loading enabled : " + addressBookLazyLoadingEnabled);
         return sb.toString();
     }
 
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isSingleLine;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -25,16 +27,30 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean isChecked) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Creates a {@code Address} from a value already known to be valid, without checking it again.
+     * For use when reconstructing an object from data this application wrote itself.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return !test.isEmpty() && !isWhitespace(test.charAt(0)) && isSingleLine(test, 1);
     }
 
     @Override
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Represents the contact details of a Person in the address book: everything but their identity and relationships.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class ContactDetails implements ContactDetailsSource {
+
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Set<Tag> tags = new HashSet<>();
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ContactDetails(Phone phone, Email email, Address address, Set<Tag> tags) {
+        requireAllNonNull(phone, email, address, tags);
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags.addAll(tags);
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    @Override
+    public ContactDetails getContactDetails() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactDetails)) {
+            return false;
+        }
+
+        ContactDetails otherDetails = (ContactDetails) other;
+        return phone.equals(otherDetails.phone)
+                && email.equals(otherDetails.email)
+                && address.equals(otherDetails.address)
+                && tags.equals(otherDetails.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phone, email, address, tags);
+    }
+}
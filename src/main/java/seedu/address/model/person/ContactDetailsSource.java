@@ -0,0 +1,13 @@
+package seedu.address.model.person;
+
+/**
+ * Supplies the contact details of a {@code Person}, which may be kept in memory or fetched from storage when needed.
+ */
+@FunctionalInterface
+public interface ContactDetailsSource {
+
+    /**
+     * Returns the contact details, fetching them first if they are not in memory.
+     */
+    ContactDetails getContactDetails();
+}
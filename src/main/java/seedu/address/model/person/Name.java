@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiAlphanumeric;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's name in the address book.
@@ -18,6 +22,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
     public final String fullName;
 
     /**
@@ -26,18 +32,50 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = name.trim().replaceAll("\\s+", " ");
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+            fullName = WHITESPACE_PATTERN.matcher(name.trim()).replaceAll(" ");
+        } else {
+            fullName = name;
+        }
+    }
+
+    /**
+     * Creates a {@code Name} from the {@link #fullName} of a valid name, without checking or normalising it again.
+     * For use when reconstructing an object from data this application wrote itself.
+     */
+    public static Name ofTrusted(String fullName) {
+        return new Name(fullName, false);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns a case-folded form of this name. Two names refer to the same person identity
+     * if and only if their identity keys are equal.
+     */
+    public String toIdentityKey() {
+        return fullName.toLowerCase(Locale.ROOT);
+    }
 
     @Override
     public String toString() {
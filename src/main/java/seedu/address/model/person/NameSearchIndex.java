@@ -0,0 +1,182 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Search indexes over the names of persons, keyed by {@link Name#toIdentityKey()}.
+ *
+ * Two structures are kept:
+ * <ul>
+ *     <li>a sorted map from each word of a name to the ids carrying it, which answers whole-word queries directly
+ *     and word-prefix queries with a range scan;</li>
+ *     <li>a map from each three-character substring (trigram) of a name to the ids carrying it, which narrows
+ *     substring queries down to a few candidates without visiting every name.</li>
+ * </ul>
+ */
+class NameSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    // Match qualities used to rank fragment search results, best first
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_NAME_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_INFIX = 3;
+
+    private final NavigableMap<String, Set<PersonId>> wordIndex = new TreeMap<>();
+    private final Map<String, Set<PersonId>> trigramIndex = new HashMap<>();
+    private final Map<PersonId, String> keysById = new HashMap<>();
+
+    /**
+     * Indexes the person with the given {@code id} under {@code name}.
+     */
+    void add(PersonId id, Name name) {
+        requireNonNull(id);
+        String key = name.toIdentityKey();
+        keysById.put(id, key);
+        for (String word : key.split(" ")) {
+            wordIndex.computeIfAbsent(word, unused -> new HashSet<>()).add(id);
+        }
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            trigramIndex.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), unused -> new HashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes the person with the given {@code id}, previously indexed under {@code name}.
+     */
+    void remove(PersonId id, Name name) {
+        requireNonNull(id);
+        String key = name.toIdentityKey();
+        keysById.remove(id, key);
+        for (String word : key.split(" ")) {
+            removePosting(wordIndex, word, id);
+        }
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            removePosting(trigramIndex, key.substring(i, i + GRAM_LENGTH), id);
+        }
+    }
+
+    void clear() {
+        wordIndex.clear();
+        trigramIndex.clear();
+        keysById.clear();
+    }
+
+    /**
+     * Returns the ids of persons whose name contains any of {@code words} as a whole word, ignoring case,
+     * ordered by name.
+     */
+    List<PersonId> findByWords(Collection<String> words) {
+        Set<PersonId> matches = new HashSet<>();
+        for (String word : words) {
+            Set<PersonId> postings = wordIndex.get(word.trim().toLowerCase(Locale.ROOT));
+            if (postings != null) {
+                matches.addAll(postings);
+            }
+        }
+
+        List<PersonId> results = new ArrayList<>(matches);
+        results.sort(Comparator.<PersonId, String>comparing(keysById::get).thenComparing(PersonId::toString));
+        return results;
+    }
+
+    /**
+     * Returns the ids of persons whose name contains {@code fragment}, ignoring case, ranked best match first:
+     * exact name, then name prefix, then word prefix, then any other substring.
+     * Fragments shorter than three characters only match at the start of a word.
+     */
+    List<PersonId> search(String fragment) {
+        requireNonNull(fragment);
+        String query = fragment.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<PersonId> candidates = query.length() < GRAM_LENGTH
+                ? findByWordPrefix(query)
+                : findByTrigrams(query);
+
+        Map<PersonId, Integer> ranks = new HashMap<>();
+        for (PersonId id : candidates) {
+            int rank = rank(keysById.get(id), query);
+            if (rank >= 0) {
+                ranks.put(id, rank);
+            }
+        }
+
+        List<PersonId> results = new ArrayList<>(ranks.keySet());
+        results.sort(Comparator.<PersonId>comparingInt(ranks::get)
+                .thenComparing(keysById::get)
+                .thenComparing(PersonId::toString));
+        return results;
+    }
+
+    private Set<PersonId> findByWordPrefix(String prefix) {
+        Set<PersonId> matches = new HashSet<>();
+        wordIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name contains every trigram of {@code query}.
+     * This is a superset of the persons whose name contains {@code query}.
+     */
+    private Set<PersonId> findByTrigrams(String query) {
+        List<Set<PersonId>> postingLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            Set<PersonId> postings = trigramIndex.get(query.substring(i, i + GRAM_LENGTH));
+            if (postings == null) {
+                return Set.of();
+            }
+            postingLists.add(postings);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<PersonId> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the match quality of {@code query} within {@code key}, or -1 if {@code key} does not contain it.
+     */
+    private static int rank(String key, String query) {
+        if (key == null) {
+            return -1;
+        }
+        if (key.equals(query)) {
+            return RANK_EXACT;
+        }
+        if (key.startsWith(query)) {
+            return RANK_NAME_PREFIX;
+        }
+        if (key.contains(" " + query)) {
+            return RANK_WORD_PREFIX;
+        }
+        return key.contains(query) ? RANK_INFIX : -1;
+    }
+
+    private static <K> void removePosting(Map<K, Set<PersonId>> index, K key, PersonId id) {
+        Set<PersonId> postings = index.get(key);
+        if (postings != null && postings.remove(id) && postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
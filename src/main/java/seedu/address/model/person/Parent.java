@@ -24,6 +24,10 @@ public class Parent extends Person {
         super(id, category, name, phone, email, address, tags);
     }
 
+    public Parent(PersonId id, Category category, Name name, ContactDetailsSource contactDetails) {
+        super(id, category, name, contactDetails);
+    }
+
     public Set<PersonId> getChildrenIds() {
         return Collections.unmodifiableSet(childrenIds);
     }
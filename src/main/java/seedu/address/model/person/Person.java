@@ -2,8 +2,6 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -13,6 +11,9 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The contact details of a person may be fetched from storage only when first needed, in which case every getter of
+ * a contact detail fetches them transparently.
  */
 public class Person {
 
@@ -24,39 +25,34 @@ public class Person {
 
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final Email email;
 
-    // Data fields
-    private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    // Data fields: phone, email, address and tags
+    private final ContactDetailsSource contactDetails;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(category, name, phone, email, address, tags);
-        this.id = PersonId.newId();
-        this.category = category;
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this(PersonId.newId(), category, name, new ContactDetails(phone, email, address, tags));
     }
 
     /**
      * Overloaded constructor to explicitly provide a {@link PersonId}.
      */
     public Person(PersonId id, Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(id, category, name, phone, email, address, tags);
+        this(id, category, name, new ContactDetails(phone, email, address, tags));
+    }
+
+    /**
+     * Overloaded constructor to provide the contact details through {@code contactDetails}, which may fetch them
+     * only when first needed.
+     */
+    public Person(PersonId id, Category category, Name name, ContactDetailsSource contactDetails) {
+        requireAllNonNull(id, category, name, contactDetails);
         this.id = id;
         this.category = category;
         this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this.contactDetails = contactDetails;
     }
 
     public PersonId getId() {
@@ -72,15 +68,15 @@ public class Person {
     }
 
     public Phone getPhone() {
-        return phone;
+        return contactDetails.getContactDetails().getPhone();
     }
 
     public Email getEmail() {
-        return email;
+        return contactDetails.getContactDetails().getEmail();
     }
 
     public Address getAddress() {
-        return address;
+        return contactDetails.getContactDetails().getAddress();
     }
 
     /**
@@ -88,7 +84,14 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return contactDetails.getContactDetails().getTags();
+    }
+
+    /**
+     * Returns the source of the contact details of this person, without fetching them.
+     */
+    public ContactDetailsSource getContactDetailsSource() {
+        return contactDetails;
     }
 
     /**
@@ -134,16 +137,14 @@ public class Person {
         Person otherPerson = (Person) other;
         return category.equals(otherPerson.category)
                 && name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags);
+                && contactDetails.getContactDetails().equals(otherPerson.contactDetails.getContactDetails());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(category, name, phone, email, address, tags);
+        // Contact details are left out so that hashing never fetches them. Equal persons still hash equally, and the
+        // id is left out too as it takes no part in equality.
+        return Objects.hash(category, name);
     }
 
     @Override
@@ -152,10 +153,10 @@ public class Person {
                 .add("id", id)
                 .add("category", category)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("tags", tags)
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("tags", getTags())
                 .toString();
     }
 
@@ -59,4 +59,28 @@ public class PersonFactory {
             throw new IllegalArgumentException("Unknown category: " + category);
         }
     }
+
+    /**
+     * Creates a Person object of the appropriate type based on the given category with a specific ID, whose
+     * contact details are provided by a source that may fetch them only when first needed.
+     *
+     * @param id the ID of the person
+     * @param category the category of the person
+     * @param name the name of the person
+     * @param contactDetails the source of the phone number, email, address and tags of the person
+     * @return a Person object of the appropriate type
+     */
+    public static Person createPerson(PersonId id, Category category, Name name,
+                                    ContactDetailsSource contactDetails) {
+        switch (category) {
+        case STUDENT:
+            return new Student(id, category, name, contactDetails);
+        case PARENT:
+            return new Parent(id, category, name, contactDetails);
+        case TUTOR:
+            return new Tutor(id, category, name, contactDetails);
+        default:
+            throw new IllegalArgumentException("Unknown category: " + category);
+        }
+    }
 }
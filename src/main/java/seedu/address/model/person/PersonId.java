@@ -2,41 +2,92 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Objects;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Immutable identifier for a {@link Person}. Wraps a UUID for each person.
+ * The UUID is held as its two 64-bit halves rather than as a string, since ids are copied into relationships and
+ * probed in hash sets throughout the model. The string form is only produced for display and storage.
  */
 public final class PersonId {
 
-    private final String value;
+    public static final String VALIDATION_REGEX =
+            "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}";
 
-    private PersonId(String value) {
-        this.value = value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final int hash;
+
+    private PersonId(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.hash = Long.hashCode(mostSignificantBits ^ leastSignificantBits);
     }
 
     /**
      * Creates a new {@code PersonId} with a randomly generated UUID value.
      */
     public static PersonId newId() {
-        return new PersonId(UUID.randomUUID().toString());
+        UUID uuid = UUID.randomUUID();
+        return new PersonId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Returns true if a given string is a UUID of the form xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx.
+     */
+    public static boolean isValidId(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns the string form of this identifier.
      */
     public String getValue() {
-        return value;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
     }
 
     /**
      * Creates a {@code PersonId} from a given string value.
      * For use when reconstructing an object from storage.
+     * A value that is not a UUID, such as an id edited by hand, is mapped to a UUID derived from its bytes, so every
+     * reference to the same value maps to the same id. The id is saved in its UUID form from then on.
      */
     public static PersonId of(String value) {
         requireNonNull(value);
-        return new PersonId(value);
+        UUID uuid = isValidId(value)
+                ? UUID.fromString(value)
+                : UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8));
+        return new PersonId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Creates a {@code PersonId} from the two halves of its UUID.
+     * For use when reconstructing an object from storage.
+     */
+    public static PersonId of(long mostSignificantBits, long leastSignificantBits) {
+        return new PersonId(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Creates a {@code PersonId} from the string value of an id already known to be valid, without checking it
+     * again. For use when reconstructing an object from data this application wrote itself.
+     */
+    public static PersonId ofTrusted(String value) {
+        requireNonNull(value);
+        UUID uuid = UUID.fromString(value);
+        return new PersonId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
     }
 
     @Override
@@ -48,18 +99,17 @@ public final class PersonId {
             return false;
         }
         PersonId personId = (PersonId) o;
-        return Objects.equals(value, personId.value);
+        return mostSignificantBits == personId.mostSignificantBits
+                && leastSignificantBits == personId.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 }
-
-
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -13,6 +14,10 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should be Singaporean numbers: exactly 8 digits starting with 3, 6, 8, or 9";
     public static final String VALIDATION_REGEX = "[3689]\\d{7}";
+
+    private static final int LENGTH = 8;
+    private static final String FIRST_DIGITS = "3689";
+
     public final String value;
 
     /**
@@ -21,16 +26,38 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Creates a {@code Phone} from a value already known to be valid, without checking it again.
+     * For use when reconstructing an object from data this application wrote itself.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || FIRST_DIGITS.indexOf(test.charAt(0)) < 0) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
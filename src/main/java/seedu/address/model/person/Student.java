@@ -38,6 +38,15 @@ public class Student extends Person {
         this.classId = null;
     }
 
+    /**
+     * Constructs a {@code Student} with a given ID, whose contact details are provided by {@code contactDetails}.
+     */
+    public Student(PersonId id, Category category, Name name, ContactDetailsSource contactDetails) {
+        super(id, category, name, contactDetails);
+        this.linkedParentId = null;
+        this.classId = null;
+    }
+
     /**
      * Constructs a {@code Student} with a given ID and class.
      */
@@ -16,4 +16,8 @@ public class Tutor extends Person {
     public Tutor(PersonId id, Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         super(id, category, name, phone, email, address, tags);
     }
+
+    public Tutor(PersonId id, Category category, Name name, ContactDetailsSource contactDetails) {
+        super(id, category, name, contactDetails);
+    }
 }
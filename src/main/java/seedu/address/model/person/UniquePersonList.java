@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +26,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Indexes from {@code PersonId} and from {@link Name#toIdentityKey()} to {@code Person} are kept in sync with the
+ * backing list so that lookups by id or name, and duplicate checks, do not need to scan the list. Ids are assumed to
+ * be unique across the list. A {@link NameSearchIndex} over the same names supports keyword and partial name search.
+ * Persons are also partitioned by {@link Category} into observable lists that keep the order of the backing list, so
+ * that listing one category does not need to test every person.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +39,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final Map<String, Person> nameIndex = new HashMap<>();
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
+    private final Map<Category, ObservableList<Person>> partitions = new EnumMap<>(Category.class);
+    private final Map<Category, ObservableList<Person>> unmodifiablePartitions = new EnumMap<>(Category.class);
+
+    {
+        for (Category category : Category.values()) {
+            ObservableList<Person> partition = FXCollections.observableArrayList();
+            partitions.put(category, partition);
+            unmodifiablePartitions.put(category, FXCollections.unmodifiableObservableList(partition));
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName().toIdentityKey());
     }
 
     /**
@@ -46,6 +71,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+        partitions.get(toAdd.getCategory()).add(toAdd);
     }
 
     /**
@@ -65,7 +92,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        unindex(replaced);
+        index(editedPerson);
+        repartition(index, replaced, editedPerson);
     }
 
     /**
@@ -74,27 +104,54 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        unindex(removed);
+        partitions.get(removed.getCategory()).remove(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes(internalList);
+        rebuildPartitions();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked while the indexes are rebuilt, in a single pass over {@code persons}, and listeners of
+     * the backing list are notified once.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        if (!rebuildIndexes(persons)) {
+            rebuildIndexes(internalList);
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        rebuildPartitions();
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the person with the same identity as {@code name}, if any.
+     * Names are compared case-insensitively, as in {@link Person#isSamePerson(Person)}.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name.toIdentityKey()));
     }
 
     /**
@@ -104,6 +161,15 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons of {@code category}, in the order of the backing list, as an unmodifiable
+     * {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList(Category category) {
+        requireNonNull(category);
+        return unmodifiablePartitions.get(category);
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +201,95 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the ids of persons whose name contains any of {@code keywords} as a whole word, ignoring case,
+     * ordered by name. Only persons matching a keyword are visited, regardless of the size of the list.
+     */
+    public List<PersonId> findIdsByNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameSearchIndex.findByWords(keywords);
+    }
+
+    /**
+     * Returns the ids of persons whose name contains {@code fragment}, ignoring case, best match first.
+     * An exact name ranks above a name prefix, which ranks above a word prefix, which ranks above any other
+     * substring. Fragments shorter than three characters only match at the start of a word.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public List<PersonId> searchIdsByName(String fragment) {
+        requireNonNull(fragment);
+        return nameSearchIndex.search(fragment);
+    }
+
+    /**
+     * Adds {@code person} to the lookup indexes.
+     */
+    private void index(Person person) {
+        idIndex.put(person.getId(), person);
+        String nameKey = person.getName().toIdentityKey();
+        nameIndex.put(nameKey, person);
+        nameSearchIndex.add(person.getId(), person.getName());
+    }
+
+    /**
+     * Removes {@code person} from the lookup indexes.
+     */
+    private void unindex(Person person) {
+        idIndex.remove(person.getId(), person);
+        String nameKey = person.getName().toIdentityKey();
+        nameIndex.remove(nameKey, person);
+        nameSearchIndex.remove(person.getId(), person.getName());
+    }
+
+    /**
+     * Moves {@code editedPerson}, now at {@code index} of the backing list, into the partition of its category,
+     * replacing {@code replaced}.
+     */
+    private void repartition(int index, Person replaced, Person editedPerson) {
+        ObservableList<Person> oldPartition = partitions.get(replaced.getCategory());
+        if (replaced.getCategory() == editedPerson.getCategory()) {
+            oldPartition.set(oldPartition.indexOf(replaced), editedPerson);
+            return;
+        }
+
+        oldPartition.remove(replaced);
+        // Keep the partition in backing list order by counting the persons of the same category before the index
+        int position = 0;
+        for (int i = 0; i < index; i++) {
+            if (internalList.get(i).getCategory() == editedPerson.getCategory()) {
+                position++;
             }
         }
+        partitions.get(editedPerson.getCategory()).add(position, editedPerson);
+    }
+
+    /**
+     * Repopulates the lookup indexes from {@code persons}.
+     *
+     * @return false if {@code persons} contains duplicate persons, in which case the indexes are left incomplete.
+     */
+    private boolean rebuildIndexes(List<Person> persons) {
+        idIndex.clear();
+        nameIndex.clear();
+        nameSearchIndex.clear();
+        for (Person person : persons) {
+            if (nameIndex.containsKey(person.getName().toIdentityKey())) {
+                return false;
+            }
+            index(person);
+        }
         return true;
     }
+
+    /**
+     * Repopulates the category partitions from the backing list, notifying listeners of each partition once.
+     */
+    private void rebuildPartitions() {
+        Map<Category, List<Person>> grouped = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            grouped.put(category, new ArrayList<>());
+        }
+        for (Person person : internalList) {
+            grouped.get(person.getCategory()).add(person);
+        }
+        grouped.forEach((category, members) -> partitions.get(category).setAll(members));
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isLineTerminator;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 /**
  * Represents a Tag in the address book.
@@ -20,16 +22,44 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isChecked) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Creates a {@code Tag} from a value already known to be valid, without checking it again.
+     * For use when reconstructing an object from data this application wrote itself.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // As in VALIDATION_REGEX, only the \S can match a line terminator, so at most one is allowed
+        boolean hasNonWhitespace = false;
+        boolean hasLineTerminator = false;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isLineTerminator(c)) {
+                if (isWhitespace(c) || hasLineTerminator) {
+                    return false;
+                }
+                hasLineTerminator = true;
+            } else if (!isWhitespace(c)) {
+                hasNonWhitespace = true;
+            }
+        }
+        return hasNonWhitespace || hasLineTerminator;
     }
 
     @Override
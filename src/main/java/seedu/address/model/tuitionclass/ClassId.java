@@ -1,15 +1,22 @@
 package seedu.address.model.tuitionclass;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 /**
  * Represents the unique identifier of a Tuition Class.
  * A ClassId is defined by its Day and Time. This is an immutable value object.
  */
 public final class ClassId {
 
+    /** Number of distinct timeslots, i.e. the number of possible {@code ClassId} values. */
+    public static final int SLOT_COUNT = Day.values().length * Time.values().length;
+
+    // Cached once, as values() returns a fresh copy of the constants on every call
+    private static final Day[] DAYS = Day.values();
+    private static final Time[] TIMES = Time.values();
+    private static final int TIME_COUNT = TIMES.length;
+
     private final Day day;
     private final Time time;
 
@@ -33,6 +40,24 @@ public final class ClassId {
         return time;
     }
 
+    /**
+     * Returns the dense index of this timeslot, in the range {@code [0, SLOT_COUNT)}.
+     * Slots are ordered by day, then by time.
+     */
+    public int toSlotIndex() {
+        return day.ordinal() * TIME_COUNT + time.ordinal();
+    }
+
+    /**
+     * Returns the {@code ClassId} whose {@link #toSlotIndex()} is {@code slotIndex}.
+     *
+     * @throws IllegalArgumentException if {@code slotIndex} is outside {@code [0, SLOT_COUNT)}.
+     */
+    public static ClassId fromSlotIndex(int slotIndex) {
+        checkArgument(slotIndex >= 0 && slotIndex < SLOT_COUNT, "Slot index out of range: " + slotIndex);
+        return new ClassId(DAYS[slotIndex / TIME_COUNT], TIMES[slotIndex % TIME_COUNT]);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,7 +72,7 @@ public final class ClassId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(day, time);
+        return toSlotIndex();
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.tuitionclass;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,12 +15,16 @@ import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassExceptio
 /**
  * A list of tuition classes that enforces uniqueness between its elements.
  * A class is considered unique by its timeslot (day and time).
+ *
+ * Since there are only {@link ClassId#SLOT_COUNT} timeslots, the classes are also kept in an array indexed by
+ * {@link ClassId#toSlotIndex()}, which makes lookups and duplicate checks constant-time.
  */
 public class UniqueClassList implements Iterable<TuitionClass> {
 
     private final ObservableList<TuitionClass> internalList = FXCollections.observableArrayList();
     private final ObservableList<TuitionClass> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final TuitionClass[] slots = new TuitionClass[ClassId.SLOT_COUNT];
 
     /**
      * Returns true if the list contains an equivalent tuition class as the given argument.
@@ -28,7 +34,17 @@ public class UniqueClassList implements Iterable<TuitionClass> {
      */
     public boolean contains(TuitionClass toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return slots[toCheck.getClassId().toSlotIndex()] != null;
+    }
+
+    /**
+     * Returns the tuition class at the timeslot identified by {@code classId}, if any.
+     *
+     * @param classId The timeslot to look up. Must not be null.
+     */
+    public Optional<TuitionClass> find(ClassId classId) {
+        requireNonNull(classId);
+        return Optional.ofNullable(slots[classId.toSlotIndex()]);
     }
 
     /**
@@ -44,6 +60,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
             throw new DuplicateTuitionClassException();
         }
         internalList.add(toAdd);
+        slots[toAdd.getClassId().toSlotIndex()] = toAdd;
     }
 
     /**
@@ -65,13 +82,15 @@ public class UniqueClassList implements Iterable<TuitionClass> {
         }
 
         // Check if the edited tuition class would create a duplicate (excluding the target itself)
-        for (int i = 0; i < internalList.size(); i++) {
-            if (i != index && internalList.get(i).equals(editedTuitionClass)) {
-                throw new DuplicateTuitionClassException();
-            }
+        int targetSlot = target.getClassId().toSlotIndex();
+        int editedSlot = editedTuitionClass.getClassId().toSlotIndex();
+        if (editedSlot != targetSlot && slots[editedSlot] != null) {
+            throw new DuplicateTuitionClassException();
         }
 
         internalList.set(index, editedTuitionClass);
+        slots[targetSlot] = null;
+        slots[editedSlot] = editedTuitionClass;
     }
 
     /**
@@ -87,6 +106,10 @@ public class UniqueClassList implements Iterable<TuitionClass> {
             throw new DuplicateTuitionClassException();
         }
         internalList.setAll(tuitionClasses);
+        Arrays.fill(slots, null);
+        for (TuitionClass tuitionClass : tuitionClasses) {
+            slots[tuitionClass.getClassId().toSlotIndex()] = tuitionClass;
+        }
     }
 
     /**
@@ -116,12 +139,13 @@ public class UniqueClassList implements Iterable<TuitionClass> {
     }
 
     private boolean tuitionClassesAreUnique(List<TuitionClass> tuitionClasses) {
-        for (int i = 0; i < tuitionClasses.size() - 1; i++) {
-            for (int j = i + 1; j < tuitionClasses.size(); j++) {
-                if (tuitionClasses.get(i).equals(tuitionClasses.get(j))) {
-                    return false;
-                }
+        boolean[] seen = new boolean[ClassId.SLOT_COUNT];
+        for (TuitionClass tuitionClass : tuitionClasses) {
+            int slot = tuitionClass.getClassId().toSlotIndex();
+            if (seen[slot]) {
+                return false;
             }
+            seen[slot] = true;
         }
         return true;
     }
@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of an {@code ObservableList} whose backing list can be swapped at runtime.
+ * Changes to the current backing list are forwarded to listeners of this view, and swapping the backing list is
+ * reported as a single replacement of the whole view. Listeners bound to this view therefore never need to be
+ * rebound, while the view itself costs O(1) to switch.
+ */
+public class SwitchableListView<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> changeForwarder = this::forwardChange;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a view backed by {@code source}.
+     */
+    public SwitchableListView(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(changeForwarder);
+    }
+
+    /**
+     * Backs this view by {@code newSource} from now on.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        // A view of the old source rather than a copy, as it is not changed while listeners read the removal
+        List<E> removed = source.subList(0, source.size());
+        source.removeListener(changeForwarder);
+        source = newSource;
+        source.addListener(changeForwarder);
+
+        if (removed.isEmpty() && source.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formats in which address book data files can be stored.
+ */
+public enum AddressBookFormat {
+    JSON,
+    BINARY,
+    SHARDED,
+    SQL;
+
+    /**
+     * Returns the format of the data file at {@code filePath}, judged from its first bytes, or
+     * {@code Optional.empty()} if there is no such file.
+     * Any file not starting with the header of a binary snapshot, a shard manifest or an SQLite database is taken to be
+     * json, which may be compressed with gzip.
+     */
+    public static Optional<AddressBookFormat> detect(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] manifestHeader = ShardedAddressBookStorage.MANIFEST_HEADER.getBytes(StandardCharsets.UTF_8);
+        byte[] header;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            header = in.readNBytes(Math.max(BinaryAddressBookStorage.MAGIC.length,
+                    Math.max(manifestHeader.length, SqlAddressBookStorage.HEADER.length)));
+        }
+        if (startsWith(header, BinaryAddressBookStorage.MAGIC)) {
+            return Optional.of(BINARY);
+        } else if (startsWith(header, manifestHeader)) {
+            return Optional.of(SHARDED);
+        } else if (startsWith(header, SqlAddressBookStorage.HEADER)) {
+            return Optional.of(SQL);
+        }
+        return Optional.of(JSON);
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        return bytes.length >= prefix.length
+                && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * Returns a plain storage for data files of this format at {@code filePath}.
+     * A json data file is read together with any journal left beside it, so that no journaled change is lost.
+     */
+    public AddressBookStorage createStorage(Path filePath) {
+        switch (this) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case SQL:
+            return new SqlAddressBookStorage(filePath);
+        case JSON:
+            return JournaledAddressBookStorage.withoutJournaling(filePath, LoadProgressListener.NONE, false);
+        default:
+            throw new IllegalStateException("Unknown format: " + this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * The persons and tuition classes of an address book at one point in time, captured cheaply enough to take on the
+ * application thread, so that they can be serialized later on another thread while the model keeps changing.
+ *
+ * Names and contact details are immutable, so they are shared with the model. Only the links between persons and
+ * classes, which commands change in place, are copied.
+ */
+final class AddressBookSnapshot {
+
+    private final List<Person> persons;
+    private final List<TuitionClass> tuitionClasses;
+
+    private AddressBookSnapshot(List<Person> persons, List<TuitionClass> tuitionClasses) {
+        this.persons = Collections.unmodifiableList(persons);
+        this.tuitionClasses = Collections.unmodifiableList(tuitionClasses);
+    }
+
+    /**
+     * Captures the current persons and tuition classes of {@code addressBook}.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            persons.add(copyLinks(person));
+        }
+        List<TuitionClass> tuitionClasses = new ArrayList<>(addressBook.getTuitionClassList().size());
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            tuitionClasses.add(copyLinks(tuitionClass));
+        }
+        return new AddressBookSnapshot(persons, tuitionClasses);
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<TuitionClass> getTuitionClasses() {
+        return tuitionClasses;
+    }
+
+    /**
+     * Returns {@code person} if it has no links that can change, or else a copy sharing its name and contact details.
+     */
+    private static Person copyLinks(Person person) {
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            Student copy = new Student(student.getId(), student.getCategory(), student.getName(),
+                    student.getContactDetailsSource());
+            if (student.getParentId() != null) {
+                copy.setParentId(student.getParentId());
+            }
+            student.getClassId().ifPresent(copy::setTuitionClass);
+            return copy;
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            Parent copy = new Parent(parent.getId(), parent.getCategory(), parent.getName(),
+                    parent.getContactDetailsSource());
+            parent.getChildrenIds().forEach(copy::addChildId);
+            return copy;
+        }
+        return person;
+    }
+
+    private static TuitionClass copyLinks(TuitionClass tuitionClass) {
+        TuitionClass copy = new TuitionClass(tuitionClass.getDay(), tuitionClass.getTime());
+        if (tuitionClass.getTutorId() != null) {
+            copy.setTutorId(tuitionClass.getTutorId());
+        }
+        tuitionClass.getStudentIds().forEach(copy::addStudentId);
+        return copy;
+    }
+}
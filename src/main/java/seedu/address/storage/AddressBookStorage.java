@@ -17,6 +17,11 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format in which the data file is written.
+     */
+    AddressBookFormat getAddressBookFormat();
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -30,6 +35,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the part of the AddressBook data that is still intact, for use after {@link #readAddressBook()} has
+     * failed. Returns {@code Optional.empty()} if no part of the data can be recovered, which is always the case
+     * for storages that cannot tell the intact part of their data apart.
+     *
+     * @throws DataLoadingException if loading the intact part of the data failed.
+     */
+    default Optional<ReadOnlyAddressBook> recoverAddressBook() throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +58,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write for the current state of
+     * {@code addressBook}, so that it can be written later, possibly on another thread.
+     * Captured saves must be written in the order they were captured.
+     *
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem preparing the data.
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Releases what the storage holds on to for the data it has read, such as data files kept open to fetch data
+     * that was read lazily. Such data can no longer be fetched afterwards.
+     *
+     * @throws IOException if there was any problem closing a file.
+     */
+    default void close() throws IOException {}
+
 }
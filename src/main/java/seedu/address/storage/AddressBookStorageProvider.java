@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Creates the {@code AddressBookStorage} of a storage backend, under a name that chooses the backend in the user
+ * prefs.
+ *
+ * Backends other than the built-in ones are discovered with {@link java.util.ServiceLoader}, from the providers
+ * listed in {@code META-INF/services/seedu.address.storage.AddressBookStorageProvider} on the class path.
+ */
+public interface AddressBookStorageProvider {
+
+    /**
+     * Returns the name that chooses this backend in the user prefs.
+     */
+    String getName();
+
+    /**
+     * Returns true if this backend can load the persons of the data file lazily, as chosen in the user prefs.
+     */
+    default boolean supportsLazyLoading() {
+        return false;
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath}, configured by {@code userPrefs}, that reports the
+     * progress of reading the data file to {@code progressListener} if the backend supports it.
+     */
+    AddressBookStorage createStorage(Path filePath, ReadOnlyUserPrefs userPrefs,
+            LoadProgressListener progressListener);
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Storage backends available to the app, by name.
+ *
+ * A registry holds the built-in backends, and can be given more with {@link #register(AddressBookStorageProvider)}
+ * or by discovering every {@link AddressBookStorageProvider} on the class path. The backend used is named by the
+ * storage backend setting of the user prefs.
+ */
+public class AddressBookStorageRegistry {
+
+    public static final String JSON = "json";
+    public static final String JOURNAL = "journal";
+    public static final String BINARY = "binary";
+    public static final String SHARDED = "sharded";
+    public static final String SQL = "sql";
+
+    public static final String MESSAGE_UNKNOWN_BACKEND = "Unknown storage backend '%1$s', expected one of %2$s";
+    public static final String MESSAGE_LAZY_LOADING_UNSUPPORTED =
+            "Storage backend '%1$s' does not support lazy loading";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageRegistry.class);
+
+    private final Map<String, AddressBookStorageProvider> providers = new LinkedHashMap<>();
+
+    /**
+     * Creates a registry holding only the built-in backends.
+     */
+    public AddressBookStorageRegistry() {
+        register(new BuiltInProvider(JSON, true, (filePath, userPrefs, progressListener) ->
+                JournaledAddressBookStorage.withoutJournaling(filePath, progressListener,
+                        userPrefs.isAddressBookLazyLoadingEnabled())));
+        register(new BuiltInProvider(JOURNAL, true, (filePath, userPrefs, progressListener) ->
+                new JournaledAddressBookStorage(filePath, progressListener,
+                        userPrefs.isAddressBookLazyLoadingEnabled())));
+        register(new BuiltInProvider(BINARY, false, (filePath, userPrefs, progressListener) ->
+                new BinaryAddressBookStorage(filePath)));
+        register(new BuiltInProvider(SHARDED, false, (filePath, userPrefs, progressListener) ->
+                new ShardedAddressBookStorage(filePath)));
+        register(new BuiltInProvider(SQL, false, (filePath, userPrefs, progressListener) ->
+                new SqlAddressBookStorage(filePath)));
+    }
+
+    /**
+     * Returns a registry holding the built-in backends and every backend discovered on the class path.
+     * A provider that fails to load is skipped.
+     */
+    public static AddressBookStorageRegistry withDiscoveredProviders() {
+        AddressBookStorageRegistry registry = new AddressBookStorageRegistry();
+        try {
+            for (AddressBookStorageProvider provider : ServiceLoader.load(AddressBookStorageProvider.class)) {
+                logger.info("Discovered storage backend '" + provider.getName() + "'");
+                registry.register(provider);
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.warning("Failed to discover storage backends: " + e);
+        }
+        return registry;
+    }
+
+    /**
+     * Adds {@code provider} to this registry, replacing any backend registered under the same name.
+     */
+    public void register(AddressBookStorageProvider provider) {
+        requireNonNull(provider);
+        providers.put(provider.getName(), provider);
+    }
+
+    /**
+     * Returns the names of the registered backends, in the order they were first registered.
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(providers.keySet());
+    }
+
+    /**
+     * Returns the backend registered under {@code name}, if any.
+     */
+    public Optional<AddressBookStorageProvider> find(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(providers.get(name));
+    }
+
+    /**
+     * Returns a storage for the data file of {@code userPrefs}, from the backend chosen by {@code userPrefs}.
+     * @throws IllegalArgumentException if no backend is registered under the chosen name, or if lazy loading is
+     *     enabled for a backend that does not support it.
+     */
+    public AddressBookStorage createStorage(ReadOnlyUserPrefs userPrefs, LoadProgressListener progressListener) {
+        requireNonNull(userPrefs);
+        requireNonNull(progressListener);
+
+        String name = userPrefs.getAddressBookStorageBackend().trim();
+        AddressBookStorageProvider provider = find(name).orElseThrow(() -> new IllegalArgumentException(
+                String.format(MESSAGE_UNKNOWN_BACKEND, name, getNames())));
+        if (userPrefs.isAddressBookLazyLoadingEnabled() && !provider.supportsLazyLoading()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_LAZY_LOADING_UNSUPPORTED, name));
+        }
+        return provider.createStorage(userPrefs.getAddressBookFilePath(), userPrefs, progressListener);
+    }
+
+    /**
+     * Creates the storage of a built-in backend.
+     */
+    @FunctionalInterface
+    private interface StorageFactory {
+        AddressBookStorage create(Path filePath, ReadOnlyUserPrefs userPrefs, LoadProgressListener progressListener);
+    }
+
+    private static class BuiltInProvider implements AddressBookStorageProvider {
+        private final String name;
+        private final boolean isLazyLoadingSupported;
+        private final StorageFactory factory;
+
+        BuiltInProvider(String name, boolean isLazyLoadingSupported, StorageFactory factory) {
+            this.name = name;
+            this.isLazyLoadingSupported = isLazyLoadingSupported;
+            this.factory = factory;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean supportsLazyLoading() {
+            return isLazyLoadingSupported;
+        }
+
+        @Override
+        public AddressBookStorage createStorage(Path filePath, ReadOnlyUserPrefs userPrefs,
+                LoadProgressListener progressListener) {
+            return factory.create(filePath, userPrefs, progressListener);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book data on a background thread, so that commands do not wait for the disk.
+ *
+ * Each requested save is captured right away on the calling thread, then written shortly afterwards on the
+ * background thread. Saves requested in quick succession are written together, and a save that supersedes earlier
+ * ones (such as a full snapshot) causes the earlier ones to be skipped, so a burst of commands costs a single write.
+ *
+ * A failed write is kept and retried with the next write, and its cause is reported by {@link #takeFailure()}.
+ */
+public class BackgroundAddressBookSaver {
+
+    /** Default time to wait for further save requests before writing. */
+    public static final long DEFAULT_COALESCING_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long coalescingDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this
+    private final Deque<PendingSave> queuedSaves = new ArrayDeque<>();
+    private boolean isWriteScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that saves to {@code storage} after the default coalescing delay.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        this(storage, DEFAULT_COALESCING_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that saves to {@code storage}, waiting
+     * {@code coalescingDelayMillis} for further save requests before each write.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, long coalescingDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.coalescingDelayMillis = coalescingDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Captures the current state of {@code addressBook} and schedules it to be written.
+     * Must be called on the thread that modifies {@code addressBook}.
+     *
+     * @throws IOException if the data could not be captured.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        PendingSave save = storage.prepareSave(addressBook);
+
+        synchronized (this) {
+            if (save.supersedesEarlierSaves()) {
+                queuedSaves.clear();
+            }
+            queuedSaves.add(save);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                executor.schedule(this::writeQueuedSaves, coalescingDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns the cause of the latest failed write, if any write has failed since the last call.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> latestFailure = Optional.ofNullable(failure);
+        failure = null;
+        return latestFailure;
+    }
+
+    /**
+     * Writes all saves requested so far, waiting until they are written.
+     *
+     * @throws IOException if any write has failed since the last call to {@link #takeFailure()}.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::writeQueuedSaves).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data file to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        Optional<IOException> latestFailure = takeFailure();
+        if (latestFailure.isPresent()) {
+            throw latestFailure.get();
+        }
+    }
+
+    /**
+     * Writes all saves requested so far and stops the background thread.
+     *
+     * @throws IOException if any write has failed since the last call to {@link #takeFailure()}.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writeQueuedSaves() {
+        List<PendingSave> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(queuedSaves);
+            queuedSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        for (int i = 0; i < saves.size(); i++) {
+            try {
+                saves.get(i).write();
+            } catch (IOException e) {
+                logger.warning("Failed to save data file in the background: " + StringUtil.getDetails(e));
+                requeueUnwritten(saves.subList(i, saves.size()), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts {@code unwrittenSaves} back ahead of any saves requested meanwhile, unless one of those supersedes them.
+     */
+    private synchronized void requeueUnwritten(List<PendingSave> unwrittenSaves, IOException cause) {
+        failure = cause;
+        if (queuedSaves.stream().anyMatch(PendingSave::supersedesEarlierSaves)) {
+            return;
+        }
+        for (int i = unwrittenSaves.size() - 1; i >= 0; i--) {
+            queuedSaves.addFirst(unwrittenSaves.get(i));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Reads an address book from a binary snapshot, in the format described by {@link BinaryAddressBookStorage}.
+ *
+ * The file is read into the heap in one go rather than memory-mapped, since a mapping is only released when it is
+ * garbage collected, and on some platforms a mapped file cannot be replaced, so the next save would fail. Each
+ * distinct string is decoded and validated only once, however many persons share it, and the resulting value
+ * objects are shared between those persons.
+ */
+class BinaryAddressBookReader {
+
+    static final String MESSAGE_NOT_BINARY = "Data file is not a binary snapshot.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported.";
+    static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted: %s";
+    static final String MESSAGE_TRUNCATED = "Binary snapshot is truncated.";
+
+    private final ByteBuffer buffer;
+
+    private String[] strings;
+    private Name[] names;
+    private Phone[] phones;
+    private Email[] emails;
+    private Address[] addresses;
+    private Tag[] tags;
+
+    private BinaryAddressBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the address book stored in the binary snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a well-formed snapshot.
+     * @throws IllegalValueException if the data violates any constraints of the model.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            return new BinaryAddressBookReader(buffer).readAddressBook();
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    private AddressBook readAddressBook() throws IOException, IllegalValueException {
+        byte[] magic = new byte[BinaryAddressBookStorage.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryAddressBookStorage.MAGIC)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = buffer.getInt();
+        if (version != BinaryAddressBookStorage.VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        readStrings();
+
+        int personCount = readCount();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson());
+        }
+        int classCount = readCount();
+        List<TuitionClass> tuitionClasses = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            tuitionClasses.add(readTuitionClass());
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses);
+    }
+
+    private void readStrings() throws IOException {
+        int stringCount = readCount();
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readCount()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        names = new Name[stringCount];
+        phones = new Phone[stringCount];
+        emails = new Email[stringCount];
+        addresses = new Address[stringCount];
+        tags = new Tag[stringCount];
+    }
+
+    private Person readPerson() throws IOException, IllegalValueException {
+        PersonId id = readId();
+        Category category = readCategory();
+        Name name = readValue(names, Name::new);
+        Phone phone = readValue(phones, Phone::new);
+        Email email = readValue(emails, Email::new);
+        Address address = readValue(addresses, Address::new);
+        int tagCount = readCount();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(readValue(tags, Tag::new));
+        }
+
+        Person person = PersonFactory.createPerson(id, category, name, phone, email, address, personTags);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            if (buffer.get() != 0) {
+                student.setParentId(readId());
+            }
+            int slotIndex = buffer.get();
+            if (slotIndex != BinaryAddressBookStorage.NO_SLOT) {
+                student.setTuitionClass(toClassId(slotIndex));
+            }
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            int childCount = readCount();
+            for (int i = 0; i < childCount; i++) {
+                parent.addChildId(readId());
+            }
+        }
+        return person;
+    }
+
+    private TuitionClass readTuitionClass() throws IOException {
+        ClassId classId = toClassId(buffer.get());
+        TuitionClass tuitionClass = new TuitionClass(classId.getDay(), classId.getTime());
+        if (buffer.get() != 0) {
+            tuitionClass.setTutorId(readId());
+        }
+        int studentCount = readCount();
+        for (int i = 0; i < studentCount; i++) {
+            tuitionClass.addStudentId(readId());
+        }
+        return tuitionClass;
+    }
+
+    /**
+     * Returns the value for the string whose index is read next, creating it with {@code constructor} the first
+     * time that string is read as such a value.
+     */
+    private <T> T readValue(T[] values, Function<String, T> constructor) throws IOException, IllegalValueException {
+        int index = buffer.getInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "string index " + index + " is out of range"));
+        }
+        if (values[index] == null) {
+            try {
+                values[index] = constructor.apply(strings[index]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+        return values[index];
+    }
+
+    private PersonId readId() {
+        long mostSignificantBits = buffer.getLong();
+        return PersonId.of(mostSignificantBits, buffer.getLong());
+    }
+
+    private Category readCategory() throws IOException {
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= Category.values().length) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "unknown category " + ordinal));
+        }
+        return Category.values()[ordinal];
+    }
+
+    private ClassId toClassId(int slotIndex) throws IOException {
+        if (slotIndex < 0 || slotIndex >= ClassId.SLOT_COUNT) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "unknown class slot " + slotIndex));
+        }
+        return ClassId.fromSlotIndex(slotIndex);
+    }
+
+    /**
+     * Reads a count of items that follow, each taking at least one byte.
+     */
+    private int readCount() throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "count " + count + " exceeds the file size"));
+        }
+        return count;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ *
+ * A snapshot starts with {@link #MAGIC} and a format {@link #VERSION}, followed by a table of every distinct string
+ * in the data (names, phones, emails, addresses and tags), then the persons and the tuition classes. Strings are
+ * stored once and referred to by their index in the table; every string and list is prefixed by its length. Loading
+ * a snapshot needs no parsing of text, and decodes and validates each distinct string only once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every binary snapshot. The first byte is never found at the start of a text file. */
+    static final byte[] MAGIC = {(byte) 0x89, 'T', 'F', 'B'};
+
+    /** Version of the snapshot layout written by this class. */
+    static final int VERSION = 1;
+
+    /** Class slot recorded for a student not enrolled in any class. */
+    static final int NO_SLOT = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookWriter.write(addressBook, out));
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        BinaryAddressBookWriter.write(addressBook, data);
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                FileUtil.createParentDirsOfFile(filePath);
+                FileUtil.writeToFile(filePath, data.toByteArray());
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Writes an address book as a binary snapshot, in the format described by {@link BinaryAddressBookStorage}.
+ */
+class BinaryAddressBookWriter {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private BinaryAddressBookWriter(ReadOnlyAddressBook addressBook, OutputStream out) {
+        this.addressBook = addressBook;
+        this.out = new DataOutputStream(out);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but not closed.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        new BinaryAddressBookWriter(addressBook, out).writeAddressBook();
+    }
+
+    private void writeAddressBook() throws IOException {
+        for (Person person : addressBook.getPersonList()) {
+            intern(person.getName().fullName);
+            intern(person.getPhone().value);
+            intern(person.getEmail().value);
+            intern(person.getAddress().value);
+            for (Tag tag : person.getTags()) {
+                intern(tag.tagName);
+            }
+        }
+
+        out.write(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.VERSION);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(person);
+        }
+        out.writeInt(addressBook.getTuitionClassList().size());
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            writeTuitionClass(tuitionClass);
+        }
+        out.flush();
+    }
+
+    private void intern(String string) {
+        if (!stringIndexes.containsKey(string)) {
+            stringIndexes.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private void writePerson(Person person) throws IOException {
+        writeId(person.getId());
+        out.writeByte(person.getCategory().ordinal());
+        out.writeInt(stringIndexes.get(person.getName().fullName));
+        out.writeInt(stringIndexes.get(person.getPhone().value));
+        out.writeInt(stringIndexes.get(person.getEmail().value));
+        out.writeInt(stringIndexes.get(person.getAddress().value));
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(stringIndexes.get(tag.tagName));
+        }
+
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            writeOptionalId(student.getParentId());
+            Optional<ClassId> classId = student.getClassId();
+            out.writeByte(classId.isPresent() ? classId.get().toSlotIndex() : BinaryAddressBookStorage.NO_SLOT);
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            out.writeInt(parent.getChildrenIds().size());
+            for (PersonId childId : parent.getChildrenIds()) {
+                writeId(childId);
+            }
+        }
+    }
+
+    private void writeTuitionClass(TuitionClass tuitionClass) throws IOException {
+        out.writeByte(tuitionClass.getClassId().toSlotIndex());
+        writeOptionalId(tuitionClass.getTutorId());
+        out.writeInt(tuitionClass.getStudentIds().size());
+        for (PersonId studentId : tuitionClass.getStudentIds()) {
+            writeId(studentId);
+        }
+    }
+
+    private void writeId(PersonId id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private void writeOptionalId(PersonId id) throws IOException {
+        out.writeBoolean(id != null);
+        if (id != null) {
+            writeId(id);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.ContactDetails;
+
+/**
+ * Fetches the contact details of lazily loaded persons from their records in the json data file they were loaded
+ * from, keeping those of the most recently used persons in memory.
+ *
+ * The data file stays open until the cache is closed, so the records of its persons can still be read after a save
+ * replaces the file.
+ */
+class ContactDetailsCache implements Closeable {
+
+    /** Number of persons whose contact details are kept in memory by default. */
+    static final int DEFAULT_CAPACITY = 1000;
+
+    static final String MESSAGE_UNREADABLE_RECORD = "Could not read the details of a person from %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ContactDetailsCache.class);
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final Map<LazyContactDetails, ContactDetails> recentlyUsed;
+
+    /**
+     * Creates a {@code ContactDetailsCache} reading records through {@code channel}, opened on the data file at
+     * {@code filePath}, and keeping the contact details of at most {@code capacity} persons in memory.
+     */
+    ContactDetailsCache(Path filePath, FileChannel channel, int capacity) {
+        this.filePath = filePath;
+        this.channel = channel;
+        this.recentlyUsed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LazyContactDetails, ContactDetails> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for a {@code ContactDetailsCache} keeping the contact details of at
+     * most {@code capacity} persons in memory.
+     */
+    static ContactDetailsCache open(Path filePath, int capacity) throws IOException {
+        return new ContactDetailsCache(filePath, FileChannel.open(filePath, StandardOpenOption.READ), capacity);
+    }
+
+    /**
+     * Returns the channel through which the data file is read.
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the contact details in the record of {@code lazyDetails}, reading them from the data file unless
+     * they were used recently.
+     *
+     * @throws UncheckedIOException if the record could not be read.
+     */
+    synchronized ContactDetails get(LazyContactDetails lazyDetails) {
+        ContactDetails details = recentlyUsed.get(lazyDetails);
+        if (details == null) {
+            details = read(lazyDetails);
+            recentlyUsed.put(lazyDetails, details);
+        }
+        return details;
+    }
+
+    /**
+     * Returns true if the contact details in the record of {@code lazyDetails} are in memory.
+     */
+    synchronized boolean contains(LazyContactDetails lazyDetails) {
+        return recentlyUsed.containsKey(lazyDetails);
+    }
+
+    /**
+     * Returns the number of persons whose contact details are in memory.
+     */
+    synchronized int size() {
+        return recentlyUsed.size();
+    }
+
+    /**
+     * Returns the bytes of the record of {@code lazyDetails}, as they are in the data file.
+     */
+    byte[] readRecord(LazyContactDetails lazyDetails) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(lazyDetails.getLength());
+        while (record.hasRemaining()) {
+            if (channel.read(record, lazyDetails.getOffset() + record.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return record.array();
+    }
+
+    /**
+     * Closes the data file. Records can no longer be read afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the contact details in the record of {@code lazyDetails}. The record was validated when the data file
+     * was loaded, so its fields are not validated again.
+     */
+    private ContactDetails read(LazyContactDetails lazyDetails) {
+        try {
+            String json = new String(readRecord(lazyDetails), StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toTrustedContactDetails();
+        } catch (IOException ioe) {
+            logger.severe(String.format(MESSAGE_UNREADABLE_RECORD, filePath) + ": " + ioe);
+            throw new UncheckedIOException(String.format(MESSAGE_UNREADABLE_RECORD, filePath), ioe);
+        }
+    }
+}
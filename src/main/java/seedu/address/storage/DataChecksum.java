@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Computes the CRC32C checksums that storages record for the data they write, as fixed-width hex strings.
+ * A checksum that still matches shows that the data is exactly as this application wrote it.
+ */
+class DataChecksum {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns the checksum of {@code data}.
+     */
+    static String of(byte[] data) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(data);
+        return toHex(checksum);
+    }
+
+    /**
+     * Returns the checksum of the contents of the file at {@code filePath}.
+     */
+    static String of(Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int length = in.read(buffer); length >= 0; length = in.read(buffer)) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return toHex(checksum);
+    }
+
+    /**
+     * Returns the current value of {@code checksum}.
+     */
+    static String toHex(Checksum checksum) {
+        return String.format("%08x", checksum.getValue());
+    }
+}
@@ -0,0 +1,591 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of later changes.
+ *
+ * The first save of an address book writes a full snapshot and starts listening to its person and class lists.
+ * Later saves of the same address book append one journal segment holding an entry per person or class that
+ * changed since the previous save, so the cost of a save grows with the size of the change rather than the size of
+ * the data. Each segment is a single line starting with the checksum of its entries, so a segment left incomplete
+ * or damaged is detected rather than replayed. Reading replays the journal over the snapshot.
+ *
+ * Once the journal holds more entries than the address book itself, it is moved aside and compacted on a
+ * background thread: the snapshot and the moved journal are read back from disk and folded into a fresh snapshot,
+ * while later saves keep appending to a new journal.
+ *
+ * A storage created {@link #withoutJournaling without journaling} writes every save as a full snapshot. It still
+ * replays a journal left by an earlier journaled session, and removes that journal with its next save, so turning
+ * journaling off neither loses the journaled changes nor leaves them to be replayed over a newer snapshot later.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Suffix appended to the data file name to name its journal. */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Suffix appended to the journal file name to name the journal being compacted. */
+    public static final String COMPACTING_SUFFIX = ".compacting";
+
+    /** Suffix appended to a journal file name, before a timestamp, to name the copy kept of it once damaged. */
+    public static final String CORRUPT_SUFFIX = ".corrupt-";
+
+    /** Minimum number of journal entries before the journal is compacted into a fresh snapshot. */
+    public static final int MIN_ENTRIES_BEFORE_COMPACTION = 1000;
+
+    static final String MESSAGE_MALFORMED_SEGMENT = "Journal segment has no checksum.";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Journal segment does not match its checksum.";
+
+    private static final DateTimeFormatter CORRUPT_TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS");
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final JsonAddressBookStorage compactionStorage;
+    private final Executor compactionExecutor;
+    private final boolean isJournaling;
+
+    /** Guards the snapshot and the journal being compacted against being changed while either is read. */
+    private final Object fileLock = new Object();
+    private final AtomicBoolean isCompactionPending = new AtomicBoolean();
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private int journalEntryCount;
+    private final Map<PersonId, Person> changedPersons = new LinkedHashMap<>();
+    private final Set<PersonId> removedPersons = new LinkedHashSet<>();
+    private final Map<ClassId, TuitionClass> changedClasses = new LinkedHashMap<>();
+    private final Set<ClassId> removedClasses = new LinkedHashSet<>();
+
+    private final ListChangeListener<Person> personChangeRecorder = this::recordPersonChange;
+    private final ListChangeListener<TuitionClass> classChangeRecorder = this::recordClassChange;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} whose snapshot is kept at {@code filePath}.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, LoadProgressListener.NONE, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} whose snapshot is kept at {@code filePath}, reporting the
+     * progress of reading each snapshot to {@code progressListener}, and reading the persons of each snapshot
+     * lazily if {@code isLazy}.
+     */
+    public JournaledAddressBookStorage(Path filePath, LoadProgressListener progressListener, boolean isLazy) {
+        this(filePath, progressListener, isLazy, JournaledAddressBookStorage::startCompactionThread);
+    }
+
+    /**
+     * Similar to {@link #JournaledAddressBookStorage(Path, LoadProgressListener, boolean)}, but compacts
+     * the journal on {@code compactionExecutor}.
+     */
+    JournaledAddressBookStorage(Path filePath, LoadProgressListener progressListener, boolean isLazy,
+            Executor compactionExecutor) {
+        this(filePath, progressListener, isLazy, compactionExecutor, true);
+    }
+
+    private JournaledAddressBookStorage(Path filePath, LoadProgressListener progressListener, boolean isLazy,
+            Executor compactionExecutor, boolean isJournaling) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, progressListener, isLazy);
+        this.compactionStorage = new JsonAddressBookStorage(filePath);
+        this.compactionExecutor = compactionExecutor;
+        this.isJournaling = isJournaling;
+    }
+
+    /**
+     * Returns a storage for the snapshot at {@code filePath} that writes every save as a full snapshot, replaying
+     * and then removing any journal left by an earlier journaled session. The other parameters are as in
+     * {@link #JournaledAddressBookStorage(Path, LoadProgressListener, boolean)}.
+     */
+    public static JournaledAddressBookStorage withoutJournaling(Path filePath, LoadProgressListener progressListener,
+            boolean isLazy) {
+        return new JournaledAddressBookStorage(filePath, progressListener, isLazy,
+                JournaledAddressBookStorage::startCompactionThread, false);
+    }
+
+    /**
+     * Deletes the journals of the data file at {@code filePath}, for once their changes are saved elsewhere.
+     */
+    public static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshotStorage.close();
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.JSON;
+    }
+
+    /**
+     * Returns true if later saves of the same address book are appended to the journal.
+     */
+    boolean isJournaling() {
+        return isJournaling;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the journal being compacted into the snapshot at {@code filePath}.
+     */
+    public static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + COMPACTING_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, replaying the journal of the data file at {@code filePath} if any.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        synchronized (fileLock) {
+            return readSnapshotAndJournals(snapshotStorage, filePath, getJournalFilePaths(filePath), false);
+        }
+    }
+
+    /**
+     * Replays the journal over the snapshot up to its first damaged segment, discarding that segment and every
+     * later one. A copy of a damaged journal is kept beside it, as the next snapshot removes the journal while the
+     * discarded changes may still be recovered by hand.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> recoverAddressBook() throws DataLoadingException {
+        synchronized (fileLock) {
+            return readSnapshotAndJournals(snapshotStorage, filePath, getJournalFilePaths(filePath), true);
+        }
+    }
+
+    /**
+     * Returns the journals of the data file at {@code filePath} that exist, in the order they were written.
+     */
+    private static List<Path> getJournalFilePaths(Path filePath) {
+        List<Path> journalFilePaths = new ArrayList<>();
+        for (Path journalFilePath : List.of(getCompactingJournalFilePath(filePath), getJournalFilePath(filePath))) {
+            if (Files.exists(journalFilePath)) {
+                journalFilePaths.add(journalFilePath);
+            }
+        }
+        return journalFilePaths;
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} with {@code snapshotStorage} and replays {@code journalFilePaths} over
+     * it. A damaged segment stops the replay if {@code isRecovering}, and fails the read otherwise.
+     */
+    private static Optional<ReadOnlyAddressBook> readSnapshotAndJournals(JsonAddressBookStorage snapshotStorage,
+            Path filePath, List<Path> journalFilePaths, boolean isRecovering) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isEmpty() || journalFilePaths.isEmpty()) {
+            return snapshot;
+        }
+
+        Map<PersonId, Person> persons = new LinkedHashMap<>();
+        snapshot.get().getPersonList().forEach(person -> persons.put(person.getId(), person));
+        Map<ClassId, TuitionClass> tuitionClasses = new LinkedHashMap<>();
+        snapshot.get().getTuitionClassList().forEach(tuitionClass ->
+                tuitionClasses.put(tuitionClass.getClassId(), tuitionClass));
+
+        for (Path journalFilePath : journalFilePaths) {
+            if (!replayJournal(journalFilePath, persons, tuitionClasses, isRecovering)) {
+                break;
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.resetData(new ArrayList<>(persons.values()), new ArrayList<>(tuitionClasses.values()));
+        } catch (RuntimeException e) {
+            logger.info("Journal of " + filePath + " does not replay to a valid address book: " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies every segment of the journal at {@code journalFilePath} to {@code persons} and
+     * {@code tuitionClasses}, which are keyed by identifier.
+     * Returns false if {@code isRecovering} and a damaged segment was found, in which case neither that segment
+     * nor any later one is applied.
+     *
+     * @throws DataLoadingException if the journal could not be read, or has a damaged segment and
+     *     {@code isRecovering} is false.
+     */
+    private static boolean replayJournal(Path journalFilePath, Map<PersonId, Person> persons,
+            Map<ClassId, TuitionClass> tuitionClasses, boolean isRecovering) throws DataLoadingException {
+        String[] segments;
+        try {
+            segments = FileUtil.readFromFile(journalFilePath).split("\n", -1);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        // Every complete segment ends with a line break, so the text after the last one is empty unless a crash
+        // while appending left that segment incomplete; its change was never saved
+        int completeSegmentCount = segments.length - 1;
+        if (!segments[completeSegmentCount].isEmpty()) {
+            logger.warning("Ignoring incomplete last segment of journal " + journalFilePath);
+        }
+
+        for (int i = 0; i < completeSegmentCount; i++) {
+            try {
+                applySegment(segments[i], persons, tuitionClasses);
+            } catch (IOException | IllegalValueException e) {
+                if (isRecovering) {
+                    logger.warning("Discarding segment " + (i + 1) + " of journal " + journalFilePath
+                            + " and every later change: " + e.getMessage());
+                    keepCorruptCopy(journalFilePath);
+                    return false;
+                }
+                logger.info("Damaged segment " + (i + 1) + " in " + journalFilePath + ": " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the damaged journal at {@code journalFilePath} aside, to a file named after it with
+     * {@link #CORRUPT_SUFFIX} and the current time. Failing to do so is logged rather than failing the recovery.
+     */
+    private static void keepCorruptCopy(Path journalFilePath) {
+        Path copyPath = journalFilePath.resolveSibling(journalFilePath.getFileName() + CORRUPT_SUFFIX
+                + LocalDateTime.now().format(CORRUPT_TIMESTAMP_FORMAT));
+        try {
+            Files.copy(journalFilePath, copyPath);
+            logger.warning("Kept a copy of damaged journal " + journalFilePath + " at " + copyPath);
+        } catch (IOException e) {
+            logger.warning("Failed to keep a copy of damaged journal " + journalFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Applies the entries of {@code segment} after checking them against the checksum it starts with.
+     */
+    private static void applySegment(String segment, Map<PersonId, Person> persons,
+            Map<ClassId, TuitionClass> tuitionClasses) throws IOException, IllegalValueException {
+        int separator = segment.indexOf(' ');
+        if (separator < 0) {
+            throw new IOException(MESSAGE_MALFORMED_SEGMENT);
+        }
+        String entries = segment.substring(separator + 1);
+        if (!segment.substring(0, separator).equals(DataChecksum.of(entries.getBytes(StandardCharsets.UTF_8)))) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        for (JsonAdaptedJournalEntry entry : JsonUtil.fromJsonString(entries, JsonAdaptedJournalEntry[].class)) {
+            entry.applyTo(persons, tuitionClasses);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is journaled; saving to any other {@code filePath} writes a snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        try {
+            prepareSave(addressBook).write();
+        } catch (IOException e) {
+            // The failed changes are no longer pending, so only a full snapshot can save them now
+            stopTracking();
+            throw e;
+        }
+    }
+
+    /**
+     * Captures the journal segment for the changes made to {@code addressBook} since the last captured save, or a
+     * full snapshot if {@code addressBook} is not yet tracked. Writing a segment that takes the journal past its
+     * size limit also starts compacting the journal. Without journaling, always captures a full snapshot.
+     * The changes are considered saved once captured, so the returned save must be written before the next one.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (!isJournaling) {
+            return prepareSnapshot(addressBook);
+        }
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+            return prepareSnapshot(addressBook);
+        }
+
+        int pendingEntryCount = changedPersons.size() + removedPersons.size()
+                + changedClasses.size() + removedClasses.size();
+        if (pendingEntryCount == 0) {
+            return PendingSave.NONE;
+        }
+        int dataSize = addressBook.getPersonList().size() + addressBook.getTuitionClassList().size();
+        boolean shouldCompact =
+                journalEntryCount + pendingEntryCount > Math.max(MIN_ENTRIES_BEFORE_COMPACTION, dataSize);
+        return preparePendingChanges(shouldCompact);
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, and stops recording those of any address book
+     * tracked before.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        stopTracking();
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personChangeRecorder);
+        addressBook.getTuitionClassList().addListener(classChangeRecorder);
+    }
+
+    /**
+     * Stops recording the changes made to the tracked address book, so that its next save writes a full snapshot.
+     */
+    private void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personChangeRecorder);
+            trackedAddressBook.getTuitionClassList().removeListener(classChangeRecorder);
+        }
+        trackedAddressBook = null;
+        clearPendingChanges();
+    }
+
+    /**
+     * Captures a full snapshot of {@code addressBook} whose writing also deletes the journals.
+     * The journals are deleted only after the snapshot is written. Replaying entries that the snapshot already
+     * contains has no further effect, so a crash in between loses nothing.
+     */
+    private PendingSave prepareSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        PendingSave snapshot = snapshotStorage.prepareSave(addressBook, filePath);
+        journalEntryCount = 0;
+        clearPendingChanges();
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                synchronized (fileLock) {
+                    snapshot.write();
+                    deleteJournals(filePath);
+                }
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Captures a journal segment with one entry per person or class changed since the last captured save, whose
+     * writing also starts compacting the journal if {@code shouldCompact}.
+     */
+    private PendingSave preparePendingChanges(boolean shouldCompact) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (PersonId id : removedPersons) {
+            entries.add(JsonAdaptedJournalEntry.removePerson(id));
+        }
+        for (Person person : changedPersons.values()) {
+            entries.add(JsonAdaptedJournalEntry.putPerson(person));
+        }
+        for (ClassId classId : removedClasses) {
+            entries.add(JsonAdaptedJournalEntry.removeClass(classId));
+        }
+        for (TuitionClass tuitionClass : changedClasses.values()) {
+            entries.add(JsonAdaptedJournalEntry.putClass(tuitionClass));
+        }
+        String json = JsonUtil.toCompactJsonString(entries);
+        byte[] segment = (DataChecksum.of(json.getBytes(StandardCharsets.UTF_8)) + " " + json + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        journalEntryCount = shouldCompact ? 0 : journalEntryCount + entries.size();
+        clearPendingChanges();
+
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                appendToJournal(segment);
+                if (shouldCompact) {
+                    startCompaction();
+                }
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Appends {@code segment} to the journal and forces it to disk. A segment that fails to be written in full is
+     * removed again, so that retrying the save does not leave a damaged segment in the middle of the journal.
+     */
+    private void appendToJournal(byte[] segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long journalSize = channel.size();
+            try {
+                channel.write(ByteBuffer.wrap(segment), journalSize);
+                channel.force(true);
+            } catch (IOException e) {
+                channel.truncate(journalSize);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Moves the journal aside and compacts it on the compaction executor, unless a compaction is already pending.
+     * A journal moved aside earlier but never compacted, such as before a crash, is compacted first instead.
+     * Failing to start a compaction does not fail the save that triggered it.
+     */
+    private void startCompaction() {
+        if (!isCompactionPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+            if (!Files.exists(compactingJournalFilePath)) {
+                Files.move(getJournalFilePath(filePath), compactingJournalFilePath);
+            }
+            compactionExecutor.execute(this::compact);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to start compacting journal of " + filePath + ": " + e);
+            isCompactionPending.set(false);
+        }
+    }
+
+    /**
+     * Folds the journal moved aside into a fresh snapshot, then deletes it. If compacting fails, the journal is kept
+     * and still replayed when reading, and is compacted again when the journal next grows too long.
+     */
+    private void compact() {
+        try {
+            synchronized (fileLock) {
+                Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+                if (!Files.exists(compactingJournalFilePath)) {
+                    // A full snapshot written meanwhile already holds its changes
+                    return;
+                }
+                Optional<ReadOnlyAddressBook> compacted = readSnapshotAndJournals(compactionStorage, filePath,
+                        List.of(compactingJournalFilePath), false);
+                if (compacted.isPresent()) {
+                    compactionStorage.saveAddressBook(compacted.get(), filePath);
+                }
+                Files.delete(compactingJournalFilePath);
+                logger.info("Compacted journal of " + filePath + " into a fresh snapshot");
+            }
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + e);
+        } finally {
+            isCompactionPending.set(false);
+        }
+    }
+
+    private static void startCompactionThread(Runnable compaction) {
+        Thread thread = new Thread(compaction, "address-book-compactor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void clearPendingChanges() {
+        changedPersons.clear();
+        removedPersons.clear();
+        changedClasses.clear();
+        removedClasses.clear();
+    }
+
+    private void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                changedPersons.remove(removed.getId());
+                removedPersons.add(removed.getId());
+            }
+            for (Person added : change.getAddedSubList()) {
+                removedPersons.remove(added.getId());
+                changedPersons.put(added.getId(), added);
+            }
+        }
+    }
+
+    private void recordClassChange(ListChangeListener.Change<? extends TuitionClass> change) {
+        while (change.next()) {
+            for (TuitionClass removed : change.getRemoved()) {
+                changedClasses.remove(removed.getClassId());
+                removedClasses.add(removed.getClassId());
+            }
+            for (TuitionClass added : change.getAddedSubList()) {
+                removedClasses.remove(added.getClassId());
+                changedClasses.put(added.getClassId(), added);
+            }
+        }
+    }
+}
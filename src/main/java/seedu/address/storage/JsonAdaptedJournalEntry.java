@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Jackson-friendly version of a single change to an address book, as recorded in a journal.
+ * Each entry either stores the latest state of a person or tuition class, or records its removal.
+ * Applying an entry more than once has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing its %s.";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has unknown type '%s'.";
+
+    static final String TYPE_PUT_PERSON = "putPerson";
+    static final String TYPE_REMOVE_PERSON = "removePerson";
+    static final String TYPE_PUT_CLASS = "putClass";
+    static final String TYPE_REMOVE_CLASS = "removeClass";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final String personId;
+    private final JsonAdaptedTuitionClass tuitionClass;
+    private final JsonAdaptedClassId classId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("personId") String personId,
+                                   @JsonProperty("tuitionClass") JsonAdaptedTuitionClass tuitionClass,
+                                   @JsonProperty("classId") JsonAdaptedClassId classId) {
+        this.type = type;
+        this.person = person;
+        this.personId = personId;
+        this.tuitionClass = tuitionClass;
+        this.classId = classId;
+    }
+
+    /**
+     * Returns an entry storing the current state of {@code source}.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person source) {
+        return new JsonAdaptedJournalEntry(TYPE_PUT_PERSON, new JsonAdaptedPerson(source), null, null, null);
+    }
+
+    /**
+     * Returns an entry recording the removal of the person with the given {@code id}.
+     */
+    public static JsonAdaptedJournalEntry removePerson(PersonId id) {
+        return new JsonAdaptedJournalEntry(TYPE_REMOVE_PERSON, null, id.getValue(), null, null);
+    }
+
+    /**
+     * Returns an entry storing the current state of {@code source}.
+     */
+    public static JsonAdaptedJournalEntry putClass(TuitionClass source) {
+        return new JsonAdaptedJournalEntry(TYPE_PUT_CLASS, null, null, new JsonAdaptedTuitionClass(source), null);
+    }
+
+    /**
+     * Returns an entry recording the removal of the tuition class at {@code id}.
+     */
+    public static JsonAdaptedJournalEntry removeClass(ClassId id) {
+        return new JsonAdaptedJournalEntry(TYPE_REMOVE_CLASS, null, null, null, new JsonAdaptedClassId(id));
+    }
+
+    /**
+     * Applies this entry to {@code persons} and {@code tuitionClasses}, which are keyed by identifier.
+     * A stored person or class replaces the one with the same identifier, keeping its position, or is
+     * appended if there is none.
+     *
+     * @throws IllegalValueException if this entry is malformed.
+     */
+    public void applyTo(Map<PersonId, Person> persons, Map<ClassId, TuitionClass> tuitionClasses)
+            throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "type"));
+        }
+
+        switch (type) {
+        case TYPE_PUT_PERSON:
+            Person modelPerson = require(person, "person").toModelType();
+            persons.put(modelPerson.getId(), modelPerson);
+            break;
+        case TYPE_REMOVE_PERSON:
+            persons.remove(PersonId.of(require(personId, "personId")));
+            break;
+        case TYPE_PUT_CLASS:
+            TuitionClass modelClass = require(tuitionClass, "tuitionClass").toModelType();
+            tuitionClasses.put(modelClass.getClassId(), modelClass);
+            break;
+        case TYPE_REMOVE_CLASS:
+            tuitionClasses.remove(require(classId, "classId").toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, fieldName));
+        }
+        return field;
+    }
+}
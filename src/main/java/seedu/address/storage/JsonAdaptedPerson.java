@@ -12,6 +12,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Category;
+import seedu.address.model.person.ContactDetails;
+import seedu.address.model.person.ContactDetailsSource;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
@@ -192,4 +194,83 @@ class JsonAdaptedPerson {
         return person;
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, without
+     * validating its fields again. For use only on data known to be written by this application, whose fields were
+     * validated before they were saved.
+     *
+     * @throws IllegalValueException if the class of a student is not a valid class.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        return toTrustedModelType(toTrustedContactDetails());
+    }
+
+    private Person toTrustedModelType(ContactDetailsSource contactDetails) throws IllegalValueException {
+        Person person = PersonFactory.createPerson(PersonId.ofTrusted(id), Category.fromString(category),
+                Name.ofTrusted(name), contactDetails);
+
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            if (classId != null) {
+                student.setTuitionClass(classId.toModelType());
+            }
+            if (linkedParentId != null) {
+                student.setParentId(PersonId.ofTrusted(linkedParentId));
+            }
+        }
+        if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            for (String childId : childrenIds) {
+                parent.addChildId(PersonId.ofTrusted(childId));
+            }
+        }
+        return person;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, whose contact
+     * details are not kept in memory but fetched from {@code contactDetails} when first needed. Unless
+     * {@code isTrusted}, every field is validated all the same, as in {@link #toModelType()}, and the identity,
+     * name and relationships of the person are taken from the validated person, as normalised by validation.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toLazyModelType(ContactDetailsSource contactDetails, boolean isTrusted)
+            throws IllegalValueException {
+        if (isTrusted) {
+            return toTrustedModelType(contactDetails);
+        }
+
+        Person validated = toModelType();
+        Person person = PersonFactory.createPerson(validated.getId(), validated.getCategory(), validated.getName(),
+                contactDetails);
+        if (validated instanceof Student) {
+            Student validatedStudent = (Student) validated;
+            Student student = (Student) person;
+            validatedStudent.getClassId().ifPresent(student::setTuitionClass);
+            if (validatedStudent.getParentId() != null) {
+                student.setParentId(validatedStudent.getParentId());
+            }
+        }
+        if (validated instanceof Parent) {
+            Parent validatedParent = (Parent) validated;
+            Parent parent = (Parent) person;
+            validatedParent.getChildrenIds().forEach(parent::addChildId);
+        }
+        return person;
+    }
+
+    /**
+     * Converts the phone, email, address and tags of this person into the model's {@code ContactDetails}, without
+     * validating them again.
+     */
+    public ContactDetails toTrustedContactDetails() {
+        Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(Tag.ofTrusted(tag.getTagName()));
+        }
+        return new ContactDetails(Phone.ofTrusted(phone), Email.ofTrusted(email), Address.ofTrusted(address),
+                modelTags);
+    }
+
 }
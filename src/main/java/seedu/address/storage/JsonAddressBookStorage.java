@@ -3,34 +3,84 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.GzipUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Every save also records the CRC32C checksum of the data file in a checksum file next to it. A data file that still
+ * matches its recorded checksum is exactly as this application wrote it, so it is read without validating the
+ * fields of each person again. Any other data file, such as one edited by hand, is fully validated.
+ *
+ * A lazy storage keeps only the identity and relationships of each person it reads in memory, and fetches their
+ * contact details from the data file when first needed.
+ *
+ * A data file whose name ends with {@link GzipUtil#FILE_EXTENSION} is written compressed with gzip. Any data file
+ * starting with the bytes of a gzip file is read compressed, whatever its name. Either way the json is streamed
+ * through the compression, and never held in full.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Suffix appended to the data file name to name its checksum file. */
+    public static final String CHECKSUM_SUFFIX = ".checksum";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final LoadProgressListener progressListener;
+    private final boolean isLazy;
+    private final Map<Path, ContactDetailsCache> openCaches = new HashMap<>();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, LoadProgressListener.NONE, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath} that reports the progress of each
+     * read to {@code progressListener}, and reads persons lazily if {@code isLazy}.
+     */
+    public JsonAddressBookStorage(Path filePath, LoadProgressListener progressListener, boolean isLazy) {
+        requireNonNull(progressListener);
         this.filePath = filePath;
+        this.progressListener = progressListener;
+        this.isLazy = isLazy;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.JSON;
+    }
+
+    /**
+     * Returns the path of the checksum file kept alongside the data file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,20 +95,65 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isTrusted = hasMatchingChecksum(filePath);
+            if (isTrusted) {
+                logger.info("Data file " + filePath + " matches its checksum, skipping validation of its fields");
+            }
+            boolean isCompressed = GzipUtil.isGzipFile(filePath);
+            if (isLazy && isCompressed) {
+                // Records cannot be fetched from their offsets in a compressed file
+                logger.info("Data file " + filePath + " is compressed, loading all its data");
+            } else if (isLazy) {
+                return Optional.of(readLazily(filePath, isTrusted));
+            }
+            return Optional.of(StreamingJsonAddressBookReader.read(filePath, progressListener, isTrusted,
+                    isCompressed));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the data file at {@code filePath} lazily, keeping it open until it is read again or this storage is
+     * closed, as the contact details of its persons are fetched from it when first needed.
+     */
+    private AddressBook readLazily(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        ContactDetailsCache cache = ContactDetailsCache.open(filePath, ContactDetailsCache.DEFAULT_CAPACITY);
+        AddressBook addressBook;
+        try {
+            addressBook = StreamingJsonAddressBookReader.readLazily(cache, progressListener, isTrusted);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            cache.close();
+            throw e;
+        }
+
+        ContactDetailsCache replaced = openCaches.put(filePath, cache);
+        if (replaced != null) {
+            replaced.close();
+        }
+        return addressBook;
+    }
+
+    /**
+     * Closes every data file kept open for persons read lazily.
+     */
+    @Override
+    public void close() throws IOException {
+        for (ContactDetailsCache cache : openCaches.values()) {
+            cache.close();
+        }
+        openCaches.clear();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +168,97 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        CRC32C checksum = new CRC32C();
+        FileUtil.writeToFile(filePath, out -> write(addressBook, new CheckedOutputStream(out, checksum), filePath));
+        writeChecksum(filePath, DataChecksum.toHex(checksum));
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return prepareSave(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook)}.
+     * Only a snapshot of the data is taken now. It is serialized straight into the data file when the returned save
+     * is written, so a save superseded before it is written is never serialized.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                // Stream the json straight into the file rather than holding it in memory first
+                FileUtil.createParentDirsOfFile(filePath);
+                CRC32C checksum = new CRC32C();
+                FileUtil.writeToFile(filePath, out -> JsonAddressBookStorage.this.write(snapshot.getPersons(),
+                        snapshot.getTuitionClasses(), new CheckedOutputStream(out, checksum), filePath));
+                writeChecksum(filePath, DataChecksum.toHex(checksum));
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as the content of the data file at {@code filePath}, compressed if
+     * that file is named as a compressed file. {@code out} is flushed but not closed.
+     */
+    private void write(ReadOnlyAddressBook addressBook, OutputStream out, Path filePath) throws IOException {
+        write(addressBook.getPersonList(), addressBook.getTuitionClassList(), out, filePath);
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, OutputStream, Path)}, but writes an address book holding just
+     * {@code persons} and {@code tuitionClasses}.
+     */
+    private void write(List<? extends Person> persons, List<? extends TuitionClass> tuitionClasses, OutputStream out,
+            Path filePath) throws IOException {
+        if (GzipUtil.hasGzipExtension(filePath)) {
+            GzipUtil.writeCompressed(out, gzipOut -> JsonAddressBookWriter.write(persons, tuitionClasses, gzipOut));
+        } else {
+            JsonAddressBookWriter.write(persons, tuitionClasses, out);
+        }
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} matches the checksum recorded when it was last saved.
+     */
+    private static boolean hasMatchingChecksum(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!Files.exists(checksumFilePath)) {
+            return false;
+        }
+        try {
+            return FileUtil.readFromFile(checksumFilePath).trim().equals(DataChecksum.of(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading checksum file " + checksumFilePath + ": " + ioe);
+            return false;
+        }
+    }
+
+    /**
+     * Records {@code checksum} as the checksum of the data file just written at {@code filePath}.
+     * The data file is written first, so a crash in between leaves a checksum that no longer matches, and the data
+     * is fully validated when next read.
+     */
+    private static void writeChecksum(Path filePath, String checksum) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        try {
+            FileUtil.writeToFile(checksumFilePath, checksum);
+        } catch (IOException ioe) {
+            // The data itself is saved; an outdated checksum only means it is fully validated when next read
+            logger.warning("Error writing checksum file " + checksumFilePath + ": " + ioe);
+        }
     }
 
 }
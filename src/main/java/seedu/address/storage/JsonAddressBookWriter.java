@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Writes an address book as json straight from the model objects.
+ *
+ * The output has the same structure as {@link JsonSerializableAddressBook} and its adapted persons and classes, and
+ * is read back through them. Writing field by field avoids building a json-friendly copy of every entity, or the
+ * whole document as a string, for each save.
+ */
+class JsonAddressBookWriter {
+
+    /** Fields of {@link JsonAdaptedPerson} holding the contact details of a person. */
+    private static final Set<String> CONTACT_DETAILS_FIELDS = Set.of("phone", "email", "address", "tags");
+
+    private final JsonGenerator generator;
+
+    private JsonAddressBookWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     * {@code out} is flushed but not closed.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        write(addressBook.getPersonList(), addressBook.getTuitionClassList(), out);
+    }
+
+    /**
+     * Writes an address book holding just {@code persons} and {@code tuitionClasses} to {@code out}.
+     * {@code out} is flushed but not closed.
+     */
+    static void write(List<? extends Person> persons, List<? extends TuitionClass> tuitionClasses, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            new JsonAddressBookWriter(generator).writeAddressBook(persons, tuitionClasses);
+        }
+        out.flush();
+    }
+
+    private void writeAddressBook(List<? extends Person> persons, List<? extends TuitionClass> tuitionClasses)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            writePerson(person);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("tuitionClasses");
+        for (TuitionClass tuitionClass : tuitionClasses) {
+            writeTuitionClass(tuitionClass);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code person} with the same fields as {@link JsonAdaptedPerson}.
+     */
+    private void writePerson(Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", person.getId().getValue());
+        generator.writeStringField("category", person.getCategory().toString());
+        generator.writeStringField("name", person.getName().fullName);
+        if (person.getContactDetailsSource() instanceof LazyContactDetails
+                && !((LazyContactDetails) person.getContactDetailsSource()).isLoaded()) {
+            copyContactDetails((LazyContactDetails) person.getContactDetailsSource());
+        } else {
+            writeContactDetails(person);
+        }
+
+        Student student = person instanceof Student ? (Student) person : null;
+        writeIdField("linkedParentId", student == null ? null : student.getParentId());
+        generator.writeArrayFieldStart("childrenIds");
+        if (person instanceof Parent) {
+            for (PersonId childId : ((Parent) person).getChildrenIds()) {
+                generator.writeString(childId.getValue());
+            }
+        }
+        generator.writeEndArray();
+        generator.writeFieldName("classId");
+        if (student != null && student.getClassId().isPresent()) {
+            ClassId classId = student.getClassId().get();
+            generator.writeStartObject();
+            generator.writeStringField("day", classId.getDay().name());
+            generator.writeStringField("time", classId.getTime().name());
+            generator.writeEndObject();
+        } else {
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeContactDetails(Person person) throws IOException {
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Copies the contact details fields from the record of {@code lazyDetails} in the data file, so that saving a
+     * lazily loaded person does not fetch its contact details. The other fields of the record are skipped, as the
+     * links of the person may have changed since it was loaded.
+     */
+    private void copyContactDetails(LazyContactDetails lazyDetails) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(lazyDetails.readRecord()))) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (CONTACT_DETAILS_FIELDS.contains(fieldName)) {
+                    generator.writeFieldName(fieldName);
+                    generator.copyCurrentStructure(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code tuitionClass} with the same fields as {@link JsonAdaptedTuitionClass}.
+     */
+    private void writeTuitionClass(TuitionClass tuitionClass) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("day", tuitionClass.getDay().toString());
+        generator.writeStringField("time", tuitionClass.getTime().toString());
+        writeIdField("tutorId", tuitionClass.getTutorId());
+        generator.writeArrayFieldStart("studentIds");
+        for (PersonId studentId : tuitionClass.getStudentIds()) {
+            generator.writeString(studentId.getValue());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeIdField(String fieldName, PersonId id) throws IOException {
+        if (id == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeStringField(fieldName, id.getValue());
+        }
+    }
+}
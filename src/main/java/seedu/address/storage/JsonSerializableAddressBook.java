@@ -11,7 +11,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -50,25 +52,40 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons and classes are converted in parallel.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException describing every person or class that violates the data constraints.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        List<TuitionClass> modelTuitionClasses = new ArrayList<>(tuitionClasses.size());
+        List<String> errors = new ArrayList<>(new ParallelRecordConverter<>("Person",
+                JsonAdaptedPerson::toModelType, modelPersons).convert(persons));
+        errors.addAll(new ParallelRecordConverter<>("Tuition class",
+                JsonAdaptedTuitionClass::toModelType, modelTuitionClasses).convert(tuitionClasses));
+        ParallelRecordConverter.requireNoErrors(errors);
+
+        return toAddressBook(modelPersons, modelTuitionClasses);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons} and {@code tuitionClasses}, as read from storage.
+     *
+     * @throws IllegalValueException if either list contains duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons, List<TuitionClass> tuitionClasses)
+            throws IllegalValueException {
+        // Load both lists in bulk rather than adding one entry at a time
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
-
-        for (JsonAdaptedTuitionClass jsonAdaptedClass : tuitionClasses) {
-            TuitionClass tuitionClass = jsonAdaptedClass.toModelType();
-            if (addressBook.hasTuitionClass(tuitionClass)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
-            }
-            addressBook.addTuitionClass(tuitionClass);
+        try {
+            addressBook.setTuitionClasses(tuitionClasses);
+        } catch (DuplicateTuitionClassException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
         }
         return addressBook;
     }
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.model.person.ContactDetails;
+import seedu.address.model.person.ContactDetailsSource;
+
+/**
+ * The contact details of a lazily loaded person, fetched through a {@link ContactDetailsCache} from the record of
+ * that person in the json data file.
+ */
+class LazyContactDetails implements ContactDetailsSource {
+
+    private final ContactDetailsCache cache;
+    private final long offset;
+    private final int length;
+
+    /**
+     * Creates the contact details of the person whose record takes {@code length} bytes from {@code offset} of the
+     * data file read by {@code cache}.
+     */
+    LazyContactDetails(ContactDetailsCache cache, long offset, int length) {
+        this.cache = cache;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    long getOffset() {
+        return offset;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns true if the contact details are in memory, so that reading them does not read the data file.
+     */
+    boolean isLoaded() {
+        return cache.contains(this);
+    }
+
+    /**
+     * Returns the bytes of the record holding the contact details, as they are in the data file.
+     */
+    byte[] readRecord() throws IOException {
+        return cache.readRecord(this);
+    }
+
+    @Override
+    public ContactDetails getContactDetails() {
+        return cache.get(this);
+    }
+}
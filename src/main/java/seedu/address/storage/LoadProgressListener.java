@@ -0,0 +1,20 @@
+package seedu.address.storage;
+
+/**
+ * Receives progress updates while address book data is being loaded.
+ */
+@FunctionalInterface
+public interface LoadProgressListener {
+
+    /** A listener that ignores all progress updates. */
+    LoadProgressListener NONE = (recordsLoaded, bytesRead, totalBytes) -> {};
+
+    /**
+     * Called after some records of the data file have been loaded, and once more when loading completes.
+     *
+     * @param recordsLoaded number of persons and tuition classes loaded so far.
+     * @param bytesRead number of bytes of the data file consumed so far.
+     * @param totalBytes size of the data file in bytes.
+     */
+    void onProgress(int recordsLoaded, long bytesRead, long totalBytes);
+}
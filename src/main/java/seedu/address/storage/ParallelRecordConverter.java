@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts json-friendly records into model objects on all available cores.
+ *
+ * Records are queued as they are read and converted in batches on the common fork-join pool, so reading the next
+ * batch overlaps with converting the previous one. Results are merged back on the calling thread in the order the
+ * records were queued, whatever the number of threads. A record that fails to convert does not stop the others;
+ * every failure is collected with the record's position, so that all problems with the data are reported at once.
+ *
+ * @param <S> type of the json-friendly records.
+ * @param <T> type of the model objects they convert to.
+ */
+class ParallelRecordConverter<S, T> {
+
+    /** Number of records queued before they are handed to the fork-join pool. */
+    static final int BATCH_SIZE = 4096;
+
+    /** Number of records below which a part of a batch is converted without splitting it further. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    /** Maximum number of invalid records described in the message of the exception thrown for them. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    /** Marks a record whose line in the data file is not known. */
+    static final int UNKNOWN_LINE = -1;
+
+    static final String MESSAGE_INVALID_RECORDS = "%d invalid record(s) found:\n%s";
+    static final String MESSAGE_MORE_INVALID_RECORDS = "\n...and %d more";
+
+    /**
+     * Converts a json-friendly record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    private final String recordName;
+    private final Conversion<S, T> conversion;
+    private final List<T> results;
+    private final List<String> errors = new ArrayList<>();
+
+    private List<S> queuedSources = new ArrayList<>();
+    private List<Integer> queuedLines = new ArrayList<>();
+    private int mergedCount;
+    private Batch convertingBatch;
+
+    /**
+     * Creates a converter that appends the conversions of {@code recordName} records to {@code results}.
+     */
+    ParallelRecordConverter(String recordName, Conversion<S, T> conversion, List<T> results) {
+        this.recordName = recordName;
+        this.conversion = conversion;
+        this.results = results;
+    }
+
+    /**
+     * Queues {@code source}, read from {@code line} of the data file, for conversion.
+     */
+    void add(S source, int line) {
+        queuedSources.add(source);
+        queuedLines.add(line);
+        if (queuedSources.size() == BATCH_SIZE) {
+            startConvertingQueue();
+        }
+    }
+
+    /**
+     * Waits for every queued record to be converted and appended to the results, and returns a description of each
+     * record that failed to convert, in the order the records were queued.
+     */
+    List<String> finish() {
+        startConvertingQueue();
+        mergeConvertingBatch();
+        return errors;
+    }
+
+    /**
+     * Converts every record in {@code sources}, whose lines in the data file are not known, and returns a
+     * description of each record that failed to convert.
+     */
+    List<String> convert(List<S> sources) {
+        sources.forEach(source -> add(source, UNKNOWN_LINE));
+        return finish();
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} describing {@code errors}, unless there are none.
+     */
+    static void requireNoErrors(List<String> errors) throws IllegalValueException {
+        if (errors.isEmpty()) {
+            return;
+        }
+        String reported = String.join("\n", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            reported += String.format(MESSAGE_MORE_INVALID_RECORDS, errors.size() - MAX_REPORTED_ERRORS);
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORDS, errors.size(), reported));
+    }
+
+    /**
+     * Hands the queued records to the fork-join pool, after merging the batch handed over before them.
+     */
+    private void startConvertingQueue() {
+        mergeConvertingBatch();
+        if (queuedSources.isEmpty()) {
+            return;
+        }
+        convertingBatch = new Batch(queuedSources, queuedLines);
+        convertingBatch.conversion = new RangeConversion(convertingBatch, 0, queuedSources.size());
+        convertingBatch.conversion.fork();
+        queuedSources = new ArrayList<>();
+        queuedLines = new ArrayList<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mergeConvertingBatch() {
+        if (convertingBatch == null) {
+            return;
+        }
+        convertingBatch.conversion.join();
+        for (int i = 0; i < convertingBatch.sources.size(); i++) {
+            if (convertingBatch.errors[i] != null) {
+                errors.add(describe(mergedCount + i + 1, convertingBatch.lines.get(i), convertingBatch.errors[i]));
+            } else {
+                results.add((T) convertingBatch.converted[i]);
+            }
+        }
+        mergedCount += convertingBatch.sources.size();
+        convertingBatch = null;
+    }
+
+    private String describe(int recordNumber, int line, String error) {
+        String position = line == UNKNOWN_LINE ? "" : " (line " + line + ")";
+        return recordName + " " + recordNumber + position + ": " + error;
+    }
+
+    /**
+     * Records handed to the fork-join pool together, with the conversion or error of each stored at its index.
+     */
+    private class Batch {
+        private final List<S> sources;
+        private final List<Integer> lines;
+        private final Object[] converted;
+        private final String[] errors;
+        private RangeConversion conversion;
+
+        Batch(List<S> sources, List<Integer> lines) {
+            this.sources = sources;
+            this.lines = lines;
+            this.converted = new Object[sources.size()];
+            this.errors = new String[sources.size()];
+        }
+    }
+
+    /**
+     * Converts a range of a batch, splitting it across the fork-join pool while it is large.
+     */
+    @SuppressWarnings("serial") // never serialized
+    private class RangeConversion extends RecursiveAction {
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        RangeConversion(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        batch.converted[i] = conversion.convert(batch.sources.get(i));
+                    } catch (IllegalValueException e) {
+                        batch.errors[i] = e.getMessage();
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeConversion(batch, from, middle), new RangeConversion(batch, middle, to));
+        }
+    }
+}
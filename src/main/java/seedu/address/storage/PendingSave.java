@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of address book data that has been captured but not yet written.
+ * A pending save holds no references to mutable model objects, so it can be written on another thread while the
+ * model keeps changing.
+ */
+public interface PendingSave {
+
+    /** A pending save with nothing to write. */
+    PendingSave NONE = new PendingSave() {
+        @Override
+        public void write() {}
+
+        @Override
+        public boolean supersedesEarlierSaves() {
+            return false;
+        }
+    };
+
+    /**
+     * Writes the captured data to storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if writing this save makes writing any save captured before it unnecessary.
+     */
+    boolean supersedesEarlierSaves();
+}
@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * A class to access AddressBook data stored as json shards in a directory.
+ *
+ * Persons are spread over shards by category and by a hash of their id, and tuition classes are kept in a shard of
+ * their own. The data file itself is a manifest listing every shard with the CRC32C checksum of its contents, and
+ * the shards are kept in a directory next to it, each in a file named after its checksum. A save writes its changed
+ * shards as new files before replacing the manifest, so the data on disk stays consistent if the save is cut short.
+ *
+ * The first save of an address book writes every shard and starts listening to its person and class lists. Later
+ * saves of the same address book rewrite only the shards holding a person or class that changed since the previous
+ * save. Persons are read back shard by shard, so they are not necessarily listed in the order they were added.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** The first line of every manifest. */
+    public static final String MANIFEST_HEADER = "# TutorFlow shard manifest v1";
+
+    /** Suffix appended to the data file name to name its shard directory. */
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+
+    /** Number of shards the persons of each category are spread over. */
+    public static final int BUCKET_COUNT = 16;
+
+    static final String CLASSES_SHARD = "classes";
+
+    static final String MESSAGE_NOT_MANIFEST = "Data file is not a shard manifest.";
+    static final String MESSAGE_MALFORMED_ENTRY = "Malformed shard manifest entry: %s";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Shard %s does not match its checksum in the manifest.";
+
+    private static final String SHARD_NAME_REGEX = "[a-z]+(-\\d{2})?";
+    private static final String CHECKSUM_REGEX = "[0-9a-f]{8}";
+    private static final String SHARD_FILE_REGEX = SHARD_NAME_REGEX + "\\." + CHECKSUM_REGEX + "\\.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private final Map<String, String> savedChecksums = new TreeMap<>();
+    private final Set<String> dirtyShards = new HashSet<>();
+
+    private final ListChangeListener<Person> personChangeRecorder = this::recordPersonChange;
+    private final ListChangeListener<TuitionClass> classChangeRecorder = change -> dirtyShards.add(CLASSES_SHARD);
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} whose manifest is kept at {@code filePath}.
+     */
+    public ShardedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.SHARDED;
+    }
+
+    /**
+     * Returns the path of the directory holding the shards listed by the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the name of the shard holding {@code person}.
+     */
+    static String getShardName(Person person) {
+        int bucket = Math.floorMod(person.getId().hashCode(), BUCKET_COUNT);
+        return String.format("%s-%02d", person.getCategory(), bucket);
+    }
+
+    private static String getShardFileName(String shardName, String checksum) {
+        return shardName + "." + checksum + ".json";
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Path shardDirectoryPath = getShardDirectoryPath(filePath);
+            List<Person> persons = new ArrayList<>();
+            List<TuitionClass> tuitionClasses = new ArrayList<>();
+            for (Map.Entry<String, String> shard : readManifest(filePath).entrySet()) {
+                Path shardFilePath = shardDirectoryPath.resolve(getShardFileName(shard.getKey(), shard.getValue()));
+                byte[] data = Files.readAllBytes(shardFilePath);
+                if (!DataChecksum.of(data).equals(shard.getValue())) {
+                    throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, shardFilePath.getFileName()));
+                }
+                // The shard is exactly as it was saved, so its fields need not be validated again
+                StreamingJsonAddressBookReader.readRecords(new ByteArrayInputStream(data), data.length,
+                        LoadProgressListener.NONE, true, persons, tuitionClasses);
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from sharded data " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the checksum of every shard listed by the manifest at {@code filePath}, by shard name.
+     */
+    private static Map<String, String> readManifest(Path filePath) throws IOException {
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(MANIFEST_HEADER)) {
+            throw new IOException(MESSAGE_NOT_MANIFEST);
+        }
+
+        Map<String, String> checksums = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.trim().split(" ");
+            if (fields.length != 2 || !fields[0].matches(SHARD_NAME_REGEX) || !fields[1].matches(CHECKSUM_REGEX)
+                    || checksums.put(fields[0], fields[1]) != null) {
+                throw new IOException(String.format(MESSAGE_MALFORMED_ENTRY, line));
+            }
+        }
+        return checksums;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data of this storage is saved incrementally; saving to any other {@code filePath} writes every shard.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            prepareShards(addressBook, filePath, new TreeMap<>(), null).write();
+            return;
+        }
+        try {
+            prepareSave(addressBook).write();
+        } catch (IOException e) {
+            // The failed shards are no longer dirty, so only rewriting every shard can save them now
+            stopTracking();
+            throw e;
+        }
+    }
+
+    /**
+     * Captures the shards changed in {@code addressBook} since the last captured save, or every shard if
+     * {@code addressBook} is not yet tracked.
+     * The shards are considered saved once captured, so the returned save must be written before the next one.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+            savedChecksums.clear();
+            return prepareShards(addressBook, filePath, savedChecksums, null);
+        }
+        if (dirtyShards.isEmpty()) {
+            return PendingSave.NONE;
+        }
+
+        Set<String> shardsToWrite = new HashSet<>(dirtyShards);
+        dirtyShards.clear();
+        savedChecksums.keySet().removeAll(shardsToWrite);
+        return prepareShards(addressBook, filePath, savedChecksums, shardsToWrite);
+    }
+
+    /**
+     * Serializes the shards of {@code addressBook} named in {@code shardsToWrite}, or every shard if it is null, and
+     * records their checksums in {@code checksums}, which must already hold those of every other shard to be listed
+     * in the manifest. Shards left empty are not listed.
+     */
+    private PendingSave prepareShards(ReadOnlyAddressBook addressBook, Path filePath, Map<String, String> checksums,
+            Set<String> shardsToWrite) throws IOException {
+        boolean isFullSave = shardsToWrite == null;
+        Predicate<String> isShardToWrite = shardName -> isFullSave || shardsToWrite.contains(shardName);
+
+        Map<String, List<Person>> personsByShard = new TreeMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            String shardName = getShardName(person);
+            if (isShardToWrite.test(shardName)) {
+                personsByShard.computeIfAbsent(shardName, name -> new ArrayList<>()).add(person);
+            }
+        }
+
+        Map<String, byte[]> shards = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Person>> shard : personsByShard.entrySet()) {
+            shards.put(shard.getKey(), serialize(shard.getValue(), List.of()));
+        }
+        if (isShardToWrite.test(CLASSES_SHARD) && !addressBook.getTuitionClassList().isEmpty()) {
+            shards.put(CLASSES_SHARD, serialize(List.of(), addressBook.getTuitionClassList()));
+        }
+
+        Map<String, String> shardFileNames = new LinkedHashMap<>();
+        for (Map.Entry<String, byte[]> shard : shards.entrySet()) {
+            String checksum = DataChecksum.of(shard.getValue());
+            checksums.put(shard.getKey(), checksum);
+            shardFileNames.put(shard.getKey(), getShardFileName(shard.getKey(), checksum));
+        }
+        StringBuilder manifest = new StringBuilder(MANIFEST_HEADER).append('\n');
+        Set<String> listedFileNames = new HashSet<>();
+        for (Map.Entry<String, String> shard : checksums.entrySet()) {
+            manifest.append(shard.getKey()).append(' ').append(shard.getValue()).append('\n');
+            listedFileNames.add(getShardFileName(shard.getKey(), shard.getValue()));
+        }
+
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                Path shardDirectoryPath = getShardDirectoryPath(filePath);
+                Files.createDirectories(shardDirectoryPath);
+                for (Map.Entry<String, byte[]> shard : shards.entrySet()) {
+                    Path shardFilePath = shardDirectoryPath.resolve(shardFileNames.get(shard.getKey()));
+                    // Shard files are named after their checksum, so an existing file already holds this shard
+                    if (!Files.exists(shardFilePath) || Files.size(shardFilePath) != shard.getValue().length) {
+                        FileUtil.writeToFile(shardFilePath, shard.getValue());
+                    }
+                }
+                FileUtil.writeToFile(filePath, manifest.toString());
+                deleteUnlistedShards(shardDirectoryPath, listedFileNames);
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return isFullSave;
+            }
+        };
+    }
+
+    private byte[] serialize(List<Person> persons, List<TuitionClass> tuitionClasses) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(persons, tuitionClasses, data);
+        return data.toByteArray();
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectoryPath} that are no longer listed in the manifest.
+     */
+    private static void deleteUnlistedShards(Path shardDirectoryPath, Set<String> listedFileNames) {
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardDirectoryPath)) {
+            for (Path shardFile : shardFiles) {
+                String fileName = shardFile.getFileName().toString();
+                if (fileName.matches(SHARD_FILE_REGEX) && !listedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(shardFile);
+                }
+            }
+        } catch (IOException e) {
+            // Unlisted shards are never read, so failing to delete them loses nothing
+            logger.warning("Failed to delete old shards in " + shardDirectoryPath + ": " + e);
+        }
+    }
+
+    /**
+     * Deletes the shard directory of the manifest at {@code filePath}, if any.
+     */
+    public static void deleteShards(Path filePath) throws IOException {
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        if (!Files.isDirectory(shardDirectoryPath)) {
+            return;
+        }
+        deleteUnlistedShards(shardDirectoryPath, Set.of());
+        Files.deleteIfExists(shardDirectoryPath);
+    }
+
+    /**
+     * Starts recording the shards changed in {@code addressBook}, and stops recording those of any address book
+     * tracked before.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        stopTracking();
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personChangeRecorder);
+        addressBook.getTuitionClassList().addListener(classChangeRecorder);
+    }
+
+    /**
+     * Stops recording the shards changed in the tracked address book, so that its next save writes every shard.
+     */
+    private void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personChangeRecorder);
+            trackedAddressBook.getTuitionClassList().removeListener(classChangeRecorder);
+        }
+        trackedAddressBook = null;
+        dirtyShards.clear();
+    }
+
+    private void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(person -> dirtyShards.add(getShardName(person)));
+            change.getAddedSubList().forEach(person -> dirtyShards.add(getShardName(person)));
+        }
+    }
+}
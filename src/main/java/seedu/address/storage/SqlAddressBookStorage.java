@@ -0,0 +1,712 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQLite database file.
+ *
+ * The data is kept in five tables: persons, the tags of each person, the children of each parent, tuition classes,
+ * and the enrolments of students in those classes. Both sides of every link are stored as the model holds them: the
+ * parent and class columns of a student beside the children of its parent and the enrolments of its class. Classes
+ * are identified by their (day, time) slot through a unique index, which their upserts rely on.
+ *
+ * The first save of an address book starts listening to its person and class lists. If the data file was just read,
+ * that save writes only the rows that differ from it; otherwise it builds a new database beside the data file and
+ * moves it over the data file. Later saves of the same address book upsert the rows of each person or class that
+ * changed and delete the rows of those removed, all in a single transaction, so editing the phone of a person
+ * updates a single row.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every SQLite database file. */
+    public static final byte[] HEADER = "SQLite format 3\0".getBytes(StandardCharsets.US_ASCII);
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE persons (id TEXT PRIMARY KEY, category TEXT NOT NULL, name TEXT NOT NULL, "
+                    + "phone TEXT NOT NULL, email TEXT NOT NULL, address TEXT NOT NULL, parent_id TEXT, "
+                    + "class_day TEXT, class_time TEXT)",
+            "CREATE TABLE tags (person_id TEXT NOT NULL, tag TEXT NOT NULL, PRIMARY KEY (person_id, tag))",
+            "CREATE TABLE children (parent_id TEXT NOT NULL, child_id TEXT NOT NULL, "
+                    + "PRIMARY KEY (parent_id, child_id))",
+            "CREATE TABLE classes (day TEXT NOT NULL, time TEXT NOT NULL, tutor_id TEXT)",
+            "CREATE UNIQUE INDEX classes_by_slot ON classes (day, time)",
+            "CREATE TABLE enrolments (day TEXT NOT NULL, time TEXT NOT NULL, student_id TEXT NOT NULL, "
+                    + "PRIMARY KEY (day, time, student_id))");
+
+    private static final String SELECT_PERSONS =
+            "SELECT id, category, name, phone, email, address, parent_id, class_day, class_time FROM persons "
+                    + "ORDER BY rowid";
+    private static final String SELECT_TAGS = "SELECT person_id, tag FROM tags ORDER BY rowid";
+    private static final String SELECT_CHILDREN = "SELECT parent_id, child_id FROM children ORDER BY rowid";
+    private static final String SELECT_CLASSES = "SELECT day, time, tutor_id FROM classes ORDER BY rowid";
+    private static final String SELECT_ENROLMENTS = "SELECT day, time, student_id FROM enrolments ORDER BY rowid";
+
+    private static final RecordTable PERSONS = new RecordTable(
+            "INSERT INTO persons (id, category, name, phone, email, address, parent_id, class_day, class_time) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET "
+                    + "category = excluded.category, name = excluded.name, phone = excluded.phone, "
+                    + "email = excluded.email, address = excluded.address, parent_id = excluded.parent_id, "
+                    + "class_day = excluded.class_day, class_time = excluded.class_time",
+            "DELETE FROM persons WHERE id = ?",
+            new ChildTable("INSERT INTO tags (person_id, tag) VALUES (?, ?)",
+                    "DELETE FROM tags WHERE person_id = ? AND tag = ?",
+                    "DELETE FROM tags WHERE person_id = ?"),
+            new ChildTable("INSERT INTO children (parent_id, child_id) VALUES (?, ?)",
+                    "DELETE FROM children WHERE parent_id = ? AND child_id = ?",
+                    "DELETE FROM children WHERE parent_id = ?"));
+    private static final RecordTable CLASSES = new RecordTable(
+            "INSERT INTO classes (day, time, tutor_id) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (day, time) DO UPDATE SET tutor_id = excluded.tutor_id",
+            "DELETE FROM classes WHERE day = ? AND time = ?",
+            new ChildTable("INSERT INTO enrolments (day, time, student_id) VALUES (?, ?, ?)",
+                    "DELETE FROM enrolments WHERE day = ? AND time = ? AND student_id = ?",
+                    "DELETE FROM enrolments WHERE day = ? AND time = ?"));
+
+    private static final int PARENT_COLUMN = 6;
+    private static final int CLASS_DAY_COLUMN = 7;
+    private static final int CLASS_TIME_COLUMN = 8;
+
+    private static final int TAGS = 0;
+    private static final int CHILDREN = 1;
+    private static final int ENROLMENTS = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** The rows of the data file as last read or saved, keyed by person id or class slot, or null if not known. */
+    private Map<List<String>, SavedRecord> savedPersons;
+    private Map<List<String>, SavedRecord> savedClasses;
+    private volatile boolean hasFailedWrite;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private final Map<List<String>, Person> changedPersons = new LinkedHashMap<>();
+    private final Set<List<String>> removedPersons = new LinkedHashSet<>();
+    private final Map<List<String>, TuitionClass> changedClasses = new LinkedHashMap<>();
+    private final Set<List<String>> removedClasses = new LinkedHashSet<>();
+
+    private final ListChangeListener<Person> personChangeRecorder = this::recordPersonChange;
+    private final ListChangeListener<TuitionClass> classChangeRecorder = this::recordClassChange;
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} whose database is kept at {@code filePath}.
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return AddressBookFormat.SQL;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading the data file of this storage also records its rows, so that the next save only writes the rows that
+     * differ from them.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Map<List<String>, SavedRecord> persons = new LinkedHashMap<>();
+        Map<List<String>, SavedRecord> classes = new LinkedHashMap<>();
+        try (Connection connection = connect(filePath)) {
+            readRecords(connection, SELECT_PERSONS, 1, List.of(SELECT_TAGS, SELECT_CHILDREN), persons);
+            readRecords(connection, SELECT_CLASSES, 2, List.of(SELECT_ENROLMENTS), classes);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = toSerializableAddressBook(persons, classes).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedPersons = persons;
+            savedClasses = classes;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads every row returned by {@code recordQuery} into {@code records}, keyed by its first {@code keyLength}
+     * columns, together with the last column of each row returned by each of {@code childQueries} for that key.
+     */
+    private static void readRecords(Connection connection, String recordQuery, int keyLength,
+            List<String> childQueries, Map<List<String>, SavedRecord> records) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(recordQuery)) {
+                while (resultSet.next()) {
+                    List<String> row = readRow(resultSet);
+                    List<Set<String>> children = new ArrayList<>();
+                    for (int i = 0; i < childQueries.size(); i++) {
+                        children.add(new LinkedHashSet<>());
+                    }
+                    records.put(row.subList(0, keyLength), new SavedRecord(row, children));
+                }
+            }
+            for (int i = 0; i < childQueries.size(); i++) {
+                try (ResultSet resultSet = statement.executeQuery(childQueries.get(i))) {
+                    while (resultSet.next()) {
+                        List<String> row = readRow(resultSet);
+                        SavedRecord record = records.get(row.subList(0, keyLength));
+                        if (record == null) {
+                            throw new SQLException("Row of a missing record: " + row);
+                        }
+                        record.children.get(i).add(row.get(keyLength));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> readRow(ResultSet resultSet) throws SQLException {
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        String[] row = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = resultSet.getString(i + 1);
+        }
+        return Arrays.asList(row);
+    }
+
+    /**
+     * Returns the persons and classes held by {@code persons} and {@code classes}.
+     */
+    private static JsonSerializableAddressBook toSerializableAddressBook(Map<List<String>, SavedRecord> persons,
+            Map<List<String>, SavedRecord> classes) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (SavedRecord person : persons.values()) {
+            List<String> row = person.row;
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (String tag : person.children.get(TAGS)) {
+                tags.add(new JsonAdaptedTag(tag));
+            }
+            JsonAdaptedClassId classId = row.get(CLASS_DAY_COLUMN) == null && row.get(CLASS_TIME_COLUMN) == null
+                    ? null
+                    : new JsonAdaptedClassId(row.get(CLASS_DAY_COLUMN), row.get(CLASS_TIME_COLUMN));
+            adaptedPersons.add(new JsonAdaptedPerson(row.get(0), row.get(1), row.get(2), row.get(3), row.get(4),
+                    row.get(5), tags, row.get(PARENT_COLUMN), new ArrayList<>(person.children.get(CHILDREN)),
+                    classId));
+        }
+
+        List<JsonAdaptedTuitionClass> adaptedClasses = new ArrayList<>();
+        for (SavedRecord tuitionClass : classes.values()) {
+            adaptedClasses.add(new JsonAdaptedTuitionClass(tuitionClass.row.get(0), tuitionClass.row.get(1),
+                    tuitionClass.row.get(2), new ArrayList<>(tuitionClass.children.get(ENROLMENTS))));
+        }
+        return new JsonSerializableAddressBook(adaptedPersons, adaptedClasses);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is updated in place; saving to any other {@code filePath} writes every row.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            List<RowOperation> operations = new ArrayList<>();
+            collectAllOperations(addressBook, new LinkedHashMap<>(), new LinkedHashMap<>(), operations);
+            createDatabase(filePath, operations);
+            return;
+        }
+        try {
+            prepareSave(addressBook).write();
+        } catch (IOException e) {
+            // The failed changes are no longer pending, so only rebuilding the database can save them now
+            stopTracking();
+            savedPersons = null;
+            savedClasses = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Captures the row operations that bring the saved rows up to date with {@code addressBook}, or every row of it
+     * if the saved rows are not known.
+     * The changes are considered saved once captured, so the returned save must be written before the next one.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (hasFailedWrite) {
+            // The transaction of some captured rows was rolled back
+            hasFailedWrite = false;
+            savedPersons = null;
+            savedClasses = null;
+        }
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+            if (savedPersons == null) {
+                return prepareRewrite(addressBook);
+            }
+            recordDifferencesFromSavedRows(addressBook);
+        }
+
+        if (savedPersons == null) {
+            return prepareRewrite(addressBook);
+        }
+        List<RowOperation> operations = new ArrayList<>();
+        collectPendingOperations(operations);
+        clearPendingChanges();
+        if (operations.isEmpty()) {
+            return PendingSave.NONE;
+        }
+
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                try (Connection connection = connect(filePath)) {
+                    execute(connection, operations);
+                } catch (SQLException e) {
+                    hasFailedWrite = true;
+                    throw new IOException(e);
+                }
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, and stops recording those of any address book
+     * tracked before.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        stopTracking();
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personChangeRecorder);
+        addressBook.getTuitionClassList().addListener(classChangeRecorder);
+    }
+
+    /**
+     * Stops recording the changes made to the tracked address book, so that its next save rebuilds the database.
+     */
+    private void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personChangeRecorder);
+            trackedAddressBook.getTuitionClassList().removeListener(classChangeRecorder);
+        }
+        trackedAddressBook = null;
+        clearPendingChanges();
+    }
+
+    /**
+     * Records every person and class of {@code addressBook} as changed, and every saved record it no longer holds as
+     * removed, so that the pending operations bring the saved rows up to date with it.
+     */
+    private void recordDifferencesFromSavedRows(ReadOnlyAddressBook addressBook) {
+        for (Person person : addressBook.getPersonList()) {
+            changedPersons.put(toPersonKey(person), person);
+        }
+        for (List<String> key : savedPersons.keySet()) {
+            if (!changedPersons.containsKey(key)) {
+                removedPersons.add(key);
+            }
+        }
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            changedClasses.put(toClassKey(tuitionClass), tuitionClass);
+        }
+        for (List<String> key : savedClasses.keySet()) {
+            if (!changedClasses.containsKey(key)) {
+                removedClasses.add(key);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes recorded since the last captured save to the saved rows, adding to {@code operations}
+     * the statements that make the same changes to the database.
+     */
+    private void collectPendingOperations(List<RowOperation> operations) {
+        for (List<String> key : removedPersons) {
+            PERSONS.collectOperations(key, savedPersons.remove(key), null, operations);
+        }
+        for (Map.Entry<List<String>, Person> entry : changedPersons.entrySet()) {
+            SavedRecord current = toPersonRecord(entry.getValue());
+            PERSONS.collectOperations(entry.getKey(), savedPersons.put(entry.getKey(), current), current,
+                    operations);
+        }
+        for (List<String> key : removedClasses) {
+            CLASSES.collectOperations(key, savedClasses.remove(key), null, operations);
+        }
+        for (Map.Entry<List<String>, TuitionClass> entry : changedClasses.entrySet()) {
+            SavedRecord current = toClassRecord(entry.getValue());
+            CLASSES.collectOperations(entry.getKey(), savedClasses.put(entry.getKey(), current), current,
+                    operations);
+        }
+    }
+
+    /**
+     * Adds to {@code operations} the statements inserting every row of {@code addressBook}, and records those rows
+     * in {@code persons} and {@code classes}.
+     */
+    private static void collectAllOperations(ReadOnlyAddressBook addressBook, Map<List<String>, SavedRecord> persons,
+            Map<List<String>, SavedRecord> classes, List<RowOperation> operations) {
+        for (Person person : addressBook.getPersonList()) {
+            SavedRecord current = toPersonRecord(person);
+            persons.put(toPersonKey(person), current);
+            PERSONS.collectOperations(toPersonKey(person), null, current, operations);
+        }
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            SavedRecord current = toClassRecord(tuitionClass);
+            classes.put(toClassKey(tuitionClass), current);
+            CLASSES.collectOperations(toClassKey(tuitionClass), null, current, operations);
+        }
+    }
+
+    /**
+     * Captures every row of {@code addressBook} in a new database, which replaces the data file when written.
+     */
+    private PendingSave prepareRewrite(ReadOnlyAddressBook addressBook) {
+        Map<List<String>, SavedRecord> persons = new LinkedHashMap<>();
+        Map<List<String>, SavedRecord> classes = new LinkedHashMap<>();
+        List<RowOperation> operations = new ArrayList<>();
+        collectAllOperations(addressBook, persons, classes, operations);
+        savedPersons = persons;
+        savedClasses = classes;
+        clearPendingChanges();
+        return new PendingSave() {
+            @Override
+            public void write() throws IOException {
+                try {
+                    createDatabase(filePath, operations);
+                } catch (IOException e) {
+                    hasFailedWrite = true;
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean supersedesEarlierSaves() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Builds a database holding the rows inserted by {@code operations} beside {@code filePath}, and then moves it
+     * over {@code filePath}, so a crash during the write leaves either the old or the new database.
+     */
+    private static void createDatabase(Path filePath, List<RowOperation> operations) throws IOException {
+        Path absoluteFile = filePath.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(absoluteFile);
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+        try {
+            // SQLite only creates a database in a file that is missing or empty
+            try (Connection connection = connect(tempFile)) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String definition : SCHEMA) {
+                        statement.executeUpdate(definition);
+                    }
+                }
+                execute(connection, operations);
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Executes {@code operations} in order in a single transaction, batching consecutive operations that run the
+     * same statement. Either every operation takes effect, or none does.
+     */
+    private static void execute(Connection connection, List<RowOperation> operations) throws SQLException {
+        connection.setAutoCommit(false);
+        Map<String, PreparedStatement> statements = new HashMap<>();
+        try {
+            PreparedStatement batch = null;
+            for (RowOperation operation : operations) {
+                PreparedStatement statement = statements.get(operation.sql);
+                if (statement == null) {
+                    statement = connection.prepareStatement(operation.sql);
+                    statements.put(operation.sql, statement);
+                }
+                if (batch != null && batch != statement) {
+                    batch.executeBatch();
+                }
+                for (int i = 0; i < operation.values.size(); i++) {
+                    statement.setString(i + 1, operation.values.get(i));
+                }
+                statement.addBatch();
+                batch = statement;
+            }
+            if (batch != null) {
+                batch.executeBatch();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+
+    private static Connection connect(Path filePath) throws SQLException {
+        return DriverManager.getConnection("jdbc:sqlite:" + filePath.toAbsolutePath());
+    }
+
+    private static List<String> toPersonKey(Person person) {
+        return List.of(person.getId().getValue());
+    }
+
+    private static SavedRecord toPersonRecord(Person person) {
+        PersonId parentId = person.getParentId();
+        ClassId classId = person instanceof Student ? ((Student) person).getClassId().orElse(null) : null;
+        List<String> row = Arrays.asList(person.getId().getValue(), person.getCategory().toString(),
+                person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, parentId == null ? null : parentId.getValue(),
+                classId == null ? null : classId.getDay().toString(),
+                classId == null ? null : classId.getTime().toString());
+        Set<String> tags = new LinkedHashSet<>();
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+        Set<String> childrenIds = new LinkedHashSet<>();
+        if (person instanceof Parent) {
+            for (PersonId childId : ((Parent) person).getChildrenIds()) {
+                childrenIds.add(childId.getValue());
+            }
+        }
+        return new SavedRecord(row, List.of(tags, childrenIds));
+    }
+
+    private static List<String> toClassKey(TuitionClass tuitionClass) {
+        return List.of(tuitionClass.getDay().toString(), tuitionClass.getTime().toString());
+    }
+
+    private static SavedRecord toClassRecord(TuitionClass tuitionClass) {
+        PersonId tutorId = tuitionClass.getTutorId();
+        List<String> row = Arrays.asList(tuitionClass.getDay().toString(), tuitionClass.getTime().toString(),
+                tutorId == null ? null : tutorId.getValue());
+        Set<String> studentIds = new LinkedHashSet<>();
+        for (PersonId studentId : tuitionClass.getStudentIds()) {
+            studentIds.add(studentId.getValue());
+        }
+        return new SavedRecord(row, List.of(studentIds));
+    }
+
+    private void clearPendingChanges() {
+        changedPersons.clear();
+        removedPersons.clear();
+        changedClasses.clear();
+        removedClasses.clear();
+    }
+
+    private void recordPersonChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                changedPersons.remove(toPersonKey(removed));
+                removedPersons.add(toPersonKey(removed));
+            }
+            for (Person added : change.getAddedSubList()) {
+                removedPersons.remove(toPersonKey(added));
+                changedPersons.put(toPersonKey(added), added);
+            }
+        }
+    }
+
+    private void recordClassChange(ListChangeListener.Change<? extends TuitionClass> change) {
+        while (change.next()) {
+            for (TuitionClass removed : change.getRemoved()) {
+                changedClasses.remove(toClassKey(removed));
+                removedClasses.add(toClassKey(removed));
+            }
+            for (TuitionClass added : change.getAddedSubList()) {
+                removedClasses.remove(toClassKey(added));
+                changedClasses.put(toClassKey(added), added);
+            }
+        }
+    }
+
+    /**
+     * The row of a person or class, together with the values of the rows that belong to it in each of its child
+     * tables: the tags and children of a person, or the ids of the students enrolled in a class.
+     */
+    private static class SavedRecord {
+        private final List<String> row;
+        private final List<Set<String>> children;
+
+        SavedRecord(List<String> row, List<Set<String>> children) {
+            this.row = row;
+            this.children = children;
+        }
+    }
+
+    /**
+     * The statements that change a table of records. Each statement takes the key of a record, followed by the
+     * values of a row where it changes one.
+     */
+    private static class RecordTable {
+        private final String upsertRecord;
+        private final String deleteRecord;
+        private final List<ChildTable> childTables;
+
+        RecordTable(String upsertRecord, String deleteRecord, ChildTable... childTables) {
+            this.upsertRecord = upsertRecord;
+            this.deleteRecord = deleteRecord;
+            this.childTables = List.of(childTables);
+        }
+
+        /**
+         * Adds to {@code operations} the statements that change the rows of the record at {@code key} from
+         * {@code saved} to {@code current}, either of which is null if the record is missing.
+         */
+        void collectOperations(List<String> key, SavedRecord saved, SavedRecord current,
+                List<RowOperation> operations) {
+            if (current == null) {
+                if (saved != null) {
+                    for (ChildTable childTable : childTables) {
+                        operations.add(new RowOperation(childTable.deleteAll, key));
+                    }
+                    operations.add(new RowOperation(deleteRecord, key));
+                }
+                return;
+            }
+
+            if (saved == null || !saved.row.equals(current.row)) {
+                operations.add(new RowOperation(upsertRecord, current.row));
+            }
+            for (int i = 0; i < childTables.size(); i++) {
+                childTables.get(i).collectOperations(key, saved == null ? Set.of() : saved.children.get(i),
+                        current.children.get(i), operations);
+            }
+        }
+    }
+
+    /**
+     * The statements that change a table holding rows that belong to a record, each made of the key of that record
+     * and a single value.
+     */
+    private static class ChildTable {
+        private final String insert;
+        private final String delete;
+        private final String deleteAll;
+
+        ChildTable(String insert, String delete, String deleteAll) {
+            this.insert = insert;
+            this.delete = delete;
+            this.deleteAll = deleteAll;
+        }
+
+        /**
+         * Adds to {@code operations} the statements that change the values of the record at {@code key} from
+         * {@code saved} to {@code current}.
+         */
+        void collectOperations(List<String> key, Set<String> saved, Set<String> current,
+                List<RowOperation> operations) {
+            for (String value : saved) {
+                if (!current.contains(value)) {
+                    operations.add(new RowOperation(delete, withValue(key, value)));
+                }
+            }
+            for (String value : current) {
+                if (!saved.contains(value)) {
+                    operations.add(new RowOperation(insert, withValue(key, value)));
+                }
+            }
+        }
+
+        private static List<String> withValue(List<String> key, String value) {
+            List<String> values = new ArrayList<>(key);
+            values.add(value);
+            return values;
+        }
+    }
+
+    /**
+     * A statement with the values of its parameters.
+     */
+    private static class RowOperation {
+        private final String sql;
+        private final List<String> values;
+
+        RowOperation(String sql, List<String> values) {
+            this.sql = sql;
+            this.values = values;
+        }
+    }
+}
@@ -53,17 +53,45 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookStorage.getAddressBookFormat();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Reads the data file at {@code filePath} in the format given by its header, which may differ from the format
+     * this storage writes.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+
+        Optional<AddressBookFormat> fileFormat;
+        try {
+            fileFormat = AddressBookFormat.detect(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (fileFormat.isPresent() && fileFormat.get() != addressBookStorage.getAddressBookFormat()) {
+            logger.info("Data file " + filePath + " is stored as " + fileFormat.get());
+            return fileFormat.get().createStorage(filePath).readAddressBook(filePath);
+        }
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> recoverAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to recover data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.recoverAddressBook();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -75,4 +103,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Preparing to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void close() throws IOException {
+        addressBookStorage.close();
+    }
+
 }
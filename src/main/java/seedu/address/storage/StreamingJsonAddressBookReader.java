@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.GzipUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Reads an address book from a json data file one record at a time.
+ *
+ * Each person or tuition class is bound as soon as it is parsed, and converted into the model in parallel with the
+ * parsing of the records after it, so that only the model objects accumulate while reading; neither the file contents
+ * nor the json-friendly records are ever held in full. Accepts the same files as {@link JsonSerializableAddressBook}.
+ *
+ * When reading lazily, only the identity and relationships of each person are kept; the contact details are left in
+ * the file and located by the byte offsets of the record of their person, to be fetched when first needed.
+ */
+class StreamingJsonAddressBookReader {
+
+    /** Number of records loaded between progress updates. */
+    static final int PROGRESS_INTERVAL = 1000;
+
+    static final String MESSAGE_MISSING_PERSONS = "Address book data is missing its persons list.";
+
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_TUITION_CLASSES = "tuitionClasses";
+
+    private final JsonParser parser;
+    private final long totalBytes;
+    private final LoadProgressListener progressListener;
+    private final ContactDetailsCache contactDetailsCache;
+
+    private final List<Person> persons;
+    private final List<TuitionClass> tuitionClasses;
+    private final ParallelRecordConverter<PersonRecord, Person> personConverter;
+    private final ParallelRecordConverter<JsonAdaptedTuitionClass, TuitionClass> classConverter;
+    private int recordsRead;
+    private boolean hasPersons;
+
+    private StreamingJsonAddressBookReader(JsonParser parser, long totalBytes, LoadProgressListener progressListener,
+            boolean isTrusted, ContactDetailsCache contactDetailsCache, List<Person> persons,
+            List<TuitionClass> tuitionClasses) {
+        this.parser = parser;
+        this.totalBytes = totalBytes;
+        this.progressListener = progressListener;
+        this.contactDetailsCache = contactDetailsCache;
+        this.persons = persons;
+        this.tuitionClasses = tuitionClasses;
+        this.personConverter = new ParallelRecordConverter<>("Person", record -> record.toModelType(isTrusted),
+                persons);
+        this.classConverter = new ParallelRecordConverter<>("Tuition class", JsonAdaptedTuitionClass::toModelType,
+                tuitionClasses);
+    }
+
+    /**
+     * Reads the address book stored in the json file at {@code filePath}, reporting progress to
+     * {@code progressListener}.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if the data violates any constraints of the model.
+     */
+    static AddressBook read(Path filePath, LoadProgressListener progressListener)
+            throws IOException, IllegalValueException {
+        return read(filePath, progressListener, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path, LoadProgressListener)}, but skips validating the fields of each person if
+     * {@code isTrusted}, for a file known to be exactly as this application wrote it.
+     */
+    static AddressBook read(Path filePath, LoadProgressListener progressListener, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        return read(filePath, progressListener, isTrusted, false);
+    }
+
+    /**
+     * Similar to {@link #read(Path, LoadProgressListener, boolean)}, but decompresses the file as it is read if
+     * {@code isCompressed}, in which case progress is reported in bytes of decompressed json.
+     */
+    static AddressBook read(Path filePath, LoadProgressListener progressListener, boolean isTrusted,
+            boolean isCompressed) throws IOException, IllegalValueException {
+        if (isCompressed) {
+            long totalBytes = GzipUtil.getUncompressedSize(filePath);
+            try (InputStream in = GzipUtil.newDecompressingInputStream(filePath)) {
+                return readFrom(in, totalBytes, progressListener, isTrusted, null);
+            }
+        }
+        long totalBytes = Files.size(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return readFrom(in, totalBytes, progressListener, isTrusted, null);
+        }
+    }
+
+    /**
+     * Similar to {@link #read(Path, LoadProgressListener, boolean)}, but keeps only the identity and relationships
+     * of each person in memory. Their contact details are fetched when first needed through {@code cache}, which
+     * reads the data file and is left open for the caller to close.
+     */
+    static AddressBook readLazily(ContactDetailsCache cache, LoadProgressListener progressListener,
+            boolean isTrusted) throws IOException, IllegalValueException {
+        // The records are located in the file the cache reads, through the channel it keeps open
+        FileChannel channel = cache.getChannel();
+        InputStream in = new FilterInputStream(Channels.newInputStream(channel)) {
+            @Override
+            public void close() {}
+        };
+        return readFrom(new BufferedInputStream(in), channel.size(), progressListener, isTrusted, cache);
+    }
+
+    private static AddressBook readFrom(InputStream in, long totalBytes, LoadProgressListener progressListener,
+            boolean isTrusted, ContactDetailsCache contactDetailsCache) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<TuitionClass> tuitionClasses = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            new StreamingJsonAddressBookReader(parser, totalBytes, progressListener, isTrusted, contactDetailsCache,
+                    persons, tuitionClasses).readAddressBook();
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses);
+    }
+
+    /**
+     * Reads the json address book data in {@code in}, of {@code totalBytes} bytes, appending its persons and
+     * tuition classes to {@code persons} and {@code tuitionClasses}. The records are not checked against each other,
+     * and the fields of each person are not validated if {@code isTrusted}. {@code in} is closed once read.
+     *
+     * @throws IOException if the data could not be read or is not valid json.
+     * @throws IllegalValueException describing every record that violates the constraints of the model.
+     */
+    static void readRecords(InputStream in, long totalBytes, LoadProgressListener progressListener, boolean isTrusted,
+            List<Person> persons, List<TuitionClass> tuitionClasses) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            new StreamingJsonAddressBookReader(parser, totalBytes, progressListener, isTrusted, null, persons,
+                    tuitionClasses).readAddressBook();
+        }
+    }
+
+    private void readAddressBook() throws IOException, IllegalValueException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (fieldName) {
+            case FIELD_PERSONS:
+                readPersons();
+                break;
+            case FIELD_TUITION_CLASSES:
+                readTuitionClasses();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expect(parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        if (!hasPersons) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        List<String> errors = new ArrayList<>(personConverter.finish());
+        errors.addAll(classConverter.finish());
+        ParallelRecordConverter.requireNoErrors(errors);
+        progressListener.onProgress(persons.size() + tuitionClasses.size(), totalBytes, totalBytes);
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        hasPersons = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            int line = parser.getCurrentLocation().getLineNr();
+            long offset = parser.getTokenLocation().getByteOffset();
+            JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+            LazyContactDetails lazyDetails = contactDetailsCache == null ? null : new LazyContactDetails(
+                    contactDetailsCache, offset, (int) (parser.getCurrentLocation().getByteOffset() - offset));
+            personConverter.add(new PersonRecord(person, lazyDetails), line);
+            recordLoaded();
+        }
+    }
+
+    private void readTuitionClasses() throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            int line = parser.getCurrentLocation().getLineNr();
+            classConverter.add(parser.readValueAs(JsonAdaptedTuitionClass.class), line);
+            recordLoaded();
+        }
+    }
+
+    private void recordLoaded() {
+        recordsRead++;
+        if (recordsRead % PROGRESS_INTERVAL == 0) {
+            progressListener.onProgress(recordsRead, parser.getCurrentLocation().getByteOffset(), totalBytes);
+        }
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * A person as parsed from the data file, with the contact details to give it if it is loaded lazily.
+     */
+    private static class PersonRecord {
+        private final JsonAdaptedPerson person;
+        private final LazyContactDetails lazyDetails;
+
+        PersonRecord(JsonAdaptedPerson person, LazyContactDetails lazyDetails) {
+            this.person = person;
+            this.lazyDetails = lazyDetails;
+        }
+
+        Person toModelType(boolean isTrusted) throws IllegalValueException {
+            if (lazyDetails != null) {
+                return person.toLazyModelType(lazyDetails, isTrusted);
+            }
+            return isTrusted ? person.toTrustedModelType() : person.toModelType();
+        }
+    }
+}
@@ -21,6 +21,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
 import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
@@ -116,24 +118,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        // Create a person lookup function that searches through all persons
-        Function<PersonId, Optional<Person>> personLookup = personId ->
-            logic.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getId().equals(personId))
-                .findFirst();
+        // Create a person lookup function backed by the address book's id index
+        Function<PersonId, Optional<Person>> personLookup = logic::findPersonById;
 
-        // Create a tuition class lookup function for students or tutors that always gets current data
+        // Create a tuition class lookup function for students or tutors backed by the relationship index
         Function<Person, List<TuitionClass>> tuitionClassLookup = person -> {
-            if (person instanceof seedu.address.model.person.Tutor) {
-                // Always get the current tuition class list to ensure real-time updates
-                return logic.getAddressBook().getTuitionClassList().stream()
-                    .filter(tc -> person.getId().equals(tc.getTutorId()))
-                    .toList();
+            if (person instanceof Tutor) {
+                return logic.getClassesByTutor((Tutor) person);
             }
-            if (person instanceof seedu.address.model.person.Student) {
-                return logic.getAddressBook().getTuitionClassList().stream()
-                        .filter(tc -> tc.getStudentIds().contains(person.getId()))
-                        .toList();
+            if (person instanceof Student) {
+                return logic.getClassesByStudent((Student) person);
             }
             return List.of();
         };
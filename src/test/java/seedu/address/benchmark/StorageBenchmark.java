@@ -0,0 +1,258 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AddressBookStorageRegistry;
+import seedu.address.storage.LoadProgressListener;
+
+/**
+ * Measures how fast every registered storage backend saves and loads synthetic address books of growing size, and
+ * the peak heap used while doing so.
+ *
+ * Each address book holds students, parents and tutors in the ratio 8:1:1. Every parent is linked to a student,
+ * the students are spread over every class timeslot, and each class has a tutor. For each size, every backend saves
+ * the address book to a fresh data file, then a fresh storage of that backend loads it back. Peak heap is the sum of
+ * the peaks of the heap memory pools during each operation, so it includes the address book being saved.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=StorageBenchmark}. The sizes default to 1k, 10k, 100k and 1M
+ * persons; other sizes can be given as arguments, e.g. {@code -PbenchmarkArgs="1000 50000"}.
+ */
+public class StorageBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int WARM_UP_SIZE = 1_000;
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static final String ROW_FORMAT = "%-8s %9s %10s %12s %9s %10s %12s %9s %9s%n";
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? DEFAULT_SIZES : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+        AddressBookStorageRegistry registry = AddressBookStorageRegistry.withDiscoveredProviders();
+
+        AddressBook warmUpBook = generateAddressBook(WARM_UP_SIZE);
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            for (String backend : registry.getNames()) {
+                run(registry, backend, warmUpBook);
+            }
+        }
+
+        System.out.printf(ROW_FORMAT, "Backend", "Persons", "Save ms", "Save rec/s", "Save peak MB",
+                "Load ms", "Load rec/s", "Load peak MB", "File MB");
+        for (int size : sizes) {
+            AddressBook addressBook = generateAddressBook(size);
+            for (String backend : registry.getNames()) {
+                Result result = run(registry, backend, addressBook);
+                System.out.printf(ROW_FORMAT, backend, size,
+                        formatMillis(result.save), formatThroughput(result.records, result.save),
+                        formatMegabytes(result.save.peakHeapBytes),
+                        formatMillis(result.load), formatThroughput(result.records, result.load),
+                        formatMegabytes(result.load.peakHeapBytes),
+                        formatMegabytes(result.fileBytes));
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} with the storage of {@code backend}, then loads it back with a fresh storage.
+     */
+    private static Result run(AddressBookStorageRegistry registry, String backend, AddressBook addressBook)
+            throws Exception {
+        Path folder = Files.createTempDirectory("storage-benchmark");
+        try {
+            Path filePath = folder.resolve("addressbook.json");
+            UserPrefs userPrefs = new UserPrefs();
+            AddressBookStorage saveStorage = createStorage(registry, backend, filePath, userPrefs);
+            Measurement save = measure(() -> saveStorage.saveAddressBook(addressBook));
+
+            AddressBookStorage loadStorage = createStorage(registry, backend, filePath, userPrefs);
+            List<ReadOnlyAddressBook> loaded = new ArrayList<>();
+            Measurement load = measure(() -> loaded.add(loadStorage.readAddressBook().get()));
+            if (loaded.get(0).getPersonList().size() != addressBook.getPersonList().size()) {
+                throw new AssertionError(backend + " should load back every person saved");
+            }
+
+            int records = addressBook.getPersonList().size() + addressBook.getTuitionClassList().size();
+            return new Result(records, save, load, sizeOf(folder));
+        } finally {
+            deleteRecursively(folder);
+        }
+    }
+
+    private static AddressBookStorage createStorage(AddressBookStorageRegistry registry, String backend,
+            Path filePath, UserPrefs userPrefs) {
+        return registry.find(backend).get().createStorage(filePath, userPrefs, LoadProgressListener.NONE);
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons, linked to each other and to a class in every
+     * timeslot.
+     */
+    static AddressBook generateAddressBook(int personCount) {
+        List<TuitionClass> tuitionClasses = new ArrayList<>(ClassId.SLOT_COUNT);
+        for (int slot = 0; slot < ClassId.SLOT_COUNT; slot++) {
+            ClassId classId = ClassId.fromSlotIndex(slot);
+            tuitionClasses.add(new TuitionClass(classId.getDay(), classId.getTime()));
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        Student lastStudent = null;
+        for (int i = 0; i < personCount; i++) {
+            Category category = getCategory(i);
+            Person person = PersonFactory.createPerson(PersonId.newId(), category,
+                    new Name(category + " Number " + i),
+                    new Phone(String.valueOf(90000000 + i % 10_000_000)),
+                    new Email("person" + i + "@example-school.edu.sg"),
+                    new Address("Blk " + i + ", Clementi Ave " + (i % 7) + ", #0" + (i % 9) + "-" + i),
+                    Set.of(new Tag("sec" + (i % 5))));
+            TuitionClass tuitionClass = tuitionClasses.get(i % ClassId.SLOT_COUNT);
+
+            if (person instanceof Student) {
+                lastStudent = (Student) person;
+                lastStudent.setTuitionClass(tuitionClass.getClassId());
+                tuitionClass.addStudentId(person.getId());
+            } else if (person instanceof Parent && lastStudent != null && lastStudent.getParentId() == null) {
+                Parent parent = (Parent) person;
+                lastStudent.setParentId(parent.getId());
+                parent.addChildId(lastStudent.getId());
+            } else if (category == Category.TUTOR && tuitionClass.getTutorId() == null) {
+                tuitionClass.setTutorId(person.getId());
+            }
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(persons, tuitionClasses);
+        return addressBook;
+    }
+
+    /**
+     * Returns the category of the {@code i}th generated person, so that eight in ten persons are students.
+     */
+    private static Category getCategory(int i) {
+        switch (i % 10) {
+        case 8:
+            return Category.PARENT;
+        case 9:
+            return Category.TUTOR;
+        default:
+            return Category.STUDENT;
+        }
+    }
+
+    /**
+     * Returns the time taken by {@code operation} and the peak heap used while it ran.
+     */
+    private static Measurement measure(Operation operation) throws Exception {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        operation.run();
+        long elapsedNanos = System.nanoTime() - start;
+
+        long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Measurement(elapsedNanos, peakHeapBytes);
+    }
+
+    private static long sizeOf(Path folder) throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            long size = 0;
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                size += Files.size(file);
+            }
+            return size;
+        }
+    }
+
+    private static void deleteRecursively(Path folder) throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static String formatMillis(Measurement measurement) {
+        return String.format("%.1f", measurement.elapsedNanos / 1e6);
+    }
+
+    private static String formatThroughput(int records, Measurement measurement) {
+        return String.format("%.0f", records * NANOS_PER_SECOND / measurement.elapsedNanos);
+    }
+
+    private static String formatMegabytes(long bytes) {
+        return String.format("%.1f", bytes / BYTES_PER_MEGABYTE);
+    }
+
+    /**
+     * An operation on storage whose cost is measured.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    private static class Measurement {
+        private final long elapsedNanos;
+        private final long peakHeapBytes;
+
+        Measurement(long elapsedNanos, long peakHeapBytes) {
+            this.elapsedNanos = elapsedNanos;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+    }
+
+    private static class Result {
+        private final int records;
+        private final Measurement save;
+        private final Measurement load;
+        private final long fileBytes;
+
+        Result(int records, Measurement save, Measurement load, long fileBytes) {
+            this.records = records;
+            this.save = save;
+            this.load = load;
+            this.fileBytes = fileBytes;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the cost of validating the fields of one person record, with the regexes the validators used to match
+ * on every call and with the current validators.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int RECORD_COUNT = 10_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    /** Fields of one record: name, phone, email, address and two tags. */
+    private static final int FIELDS_PER_RECORD = 6;
+
+    public static void main(String[] args) {
+        List<String[]> records = generateRecords();
+
+        Predicate<String[]> regexValidator = record -> record[0].matches(Name.VALIDATION_REGEX)
+                & record[1].matches(Phone.VALIDATION_REGEX)
+                & record[2].matches(Email.VALIDATION_REGEX)
+                & record[3].matches(Address.VALIDATION_REGEX)
+                & record[4].matches(Tag.VALIDATION_REGEX)
+                & record[5].matches(Tag.VALIDATION_REGEX);
+        Predicate<String[]> currentValidator = record -> Name.isValidName(record[0])
+                & Phone.isValidPhone(record[1])
+                & Email.isValidEmail(record[2])
+                & Address.isValidAddress(record[3])
+                & Tag.isValidTagName(record[4])
+                & Tag.isValidTagName(record[5]);
+
+        double regexCost = measure(records, regexValidator);
+        double currentCost = measure(records, currentValidator);
+        System.out.printf("Validating %d records of %d fields, best of %d rounds:%n", RECORD_COUNT,
+                FIELDS_PER_RECORD, MEASURED_ROUNDS);
+        System.out.printf("  String.matches per call : %8.1f ns/record%n", regexCost);
+        System.out.printf("  current validators      : %8.1f ns/record (%.1fx faster)%n", currentCost,
+                regexCost / currentCost);
+    }
+
+    private static List<String[]> generateRecords() {
+        List<String[]> records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(new String[] {
+                "Student Number " + i,
+                String.valueOf(90000000 + i),
+                "student" + i + "@example-school.edu.sg",
+                "Blk " + i + ", Clementi Ave " + (i % 7) + ", #0" + (i % 9) + "-" + i,
+                "sec" + (i % 5),
+                "needs extra help"
+            });
+        }
+        return records;
+    }
+
+    /**
+     * Returns the lowest average cost, in nanoseconds, of validating each record with {@code validator}.
+     */
+    private static double measure(List<String[]> records, Predicate<String[]> validator) {
+        int validCount = 0;
+        long bestNanos = Long.MAX_VALUE;
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String[] record : records) {
+                validCount += validator.test(record) ? 1 : 0;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARM_UP_ROUNDS) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        if (validCount != records.size() * (WARM_UP_ROUNDS + MEASURED_ROUNDS)) {
+            throw new AssertionError("Benchmark records should all be valid");
+        }
+        return (double) bestNanos / records.size();
+    }
+}
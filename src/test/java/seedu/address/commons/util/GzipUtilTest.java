@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GzipUtilTest {
+
+    private static final String CONTENT = "{ \"persons\" : [ ] }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void hasGzipExtension() {
+        assertTrue(GzipUtil.hasGzipExtension(Paths.get("data", "addressbook.json.gz")));
+        assertFalse(GzipUtil.hasGzipExtension(Paths.get("data", "addressbook.json")));
+        assertFalse(GzipUtil.hasGzipExtension(Paths.get("data.gz", "addressbook.json")));
+    }
+
+    @Test
+    public void writeCompressed_outNotClosed_contentDecompressed() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            GzipUtil.writeCompressed(out, gzipOut -> gzipOut.write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+            // still open for writing after the compressed content
+            out.flush();
+        }
+
+        assertTrue(GzipUtil.isGzipFile(file));
+        assertEquals(CONTENT.length(), GzipUtil.getUncompressedSize(file));
+        try (InputStream in = GzipUtil.newDecompressingInputStream(file)) {
+            assertEquals(CONTENT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void isGzipFile_plainOrEmptyFile_returnsFalse() throws Exception {
+        Path plainFile = testFolder.resolve("plain.json");
+        FileUtil.writeToFile(plainFile, CONTENT);
+        assertFalse(GzipUtil.isGzipFile(plainFile));
+
+        Path emptyFile = testFolder.resolve("empty.json");
+        FileUtil.writeToFile(emptyFile, "");
+        assertFalse(GzipUtil.isGzipFile(emptyFile));
+        assertEquals(0, GzipUtil.getUncompressedSize(emptyFile));
+    }
+
+    @Test
+    public void writeCompressed_largeContent_sizeRecorded() throws Exception {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] chunk = CONTENT.getBytes(StandardCharsets.UTF_8);
+        GzipUtil.writeCompressed(data, gzipOut -> {
+            for (int i = 0; i < 10000; i++) {
+                gzipOut.write(chunk);
+            }
+        });
+        Path file = testFolder.resolve("large.json.gz");
+        Files.write(file, data.toByteArray());
+
+        assertEquals(10000L * chunk.length, GzipUtil.getUncompressedSize(file));
+    }
+}
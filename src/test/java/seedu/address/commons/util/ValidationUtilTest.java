@@ -0,0 +1,32 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void characterClasses_sameAsRegex() {
+        for (char c = 0; c < 0x3000; c++) {
+            String s = String.valueOf(c);
+            assertEquals(s.matches("\\p{Alnum}"), ValidationUtil.isAsciiAlphanumeric(c), "char " + (int) c);
+            assertEquals(s.matches("\\d"), ValidationUtil.isAsciiDigit(c), "char " + (int) c);
+            assertEquals(s.matches("\\s"), ValidationUtil.isWhitespace(c), "char " + (int) c);
+            assertEquals(!s.matches("."), ValidationUtil.isLineTerminator(c), "char " + (int) c);
+        }
+    }
+
+    @Test
+    public void isSingleLine() {
+        assertTrue(ValidationUtil.isSingleLine("", 0));
+        assertTrue(ValidationUtil.isSingleLine("a b\tc", 0));
+        assertTrue(ValidationUtil.isSingleLine("\na", 1));
+
+        assertFalse(ValidationUtil.isSingleLine("a\nb", 0));
+        assertFalse(ValidationUtil.isSingleLine("a\r", 1));
+        assertFalse(ValidationUtil.isSingleLine("a\u2028", 0));
+    }
+}
@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,8 +30,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PendingSave;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +86,72 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // saving would throw, so the list command only succeeds if the save is skipped
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS_ALL, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_reportedWithLaterCommandResult() throws Exception {
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+                        return new PendingSave() {
+                            @Override
+                            public void write() throws IOException {
+                                try {
+                                    writeAllowed.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                throw DUMMY_IO_EXCEPTION;
+                            }
+
+                            @Override
+                            public boolean supersedesEarlierSaves() {
+                                return true;
+                            }
+                        };
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, new BackgroundAddressBookSaver(storage, 0));
+
+        // the add command returns before its save is written
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        writeAllowed.countDown();
+
+        // the failure is reported with the result of a later command, which still succeeds
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS_ALL + "\n"
+                + String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+        String feedback = ListCommand.MESSAGE_SUCCESS_ALL;
+        for (int i = 0; i < 500 && feedback.equals(ListCommand.MESSAGE_SUCCESS_ALL); i++) {
+            Thread.sleep(10);
+            feedback = logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser();
+        }
+        assertEquals(expectedMessage, feedback);
+
+        // the failure is reported only once
+        assertEquals(ListCommand.MESSAGE_SUCCESS_ALL, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -12,7 +12,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -139,6 +138,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +179,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(List<PersonId> personIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<TuitionClass> getFilteredTuitionClassList() {
             throw new AssertionError("This method should not be called.");
@@ -211,7 +225,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public Set<PersonId> getPersonIdsByCategory(Category category) {
+        public List<PersonId> findPersonIdsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<PersonId> searchPersonIdsByName(String fragment) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -240,6 +259,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<TuitionClass> getClassesByStudent(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Student> getStudentsInClass(TuitionClass tuitionClass) {
             throw new AssertionError("This method should not be called.");
@@ -5,13 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -76,6 +80,25 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void equals_nameFragment() {
+        FindCommand findAli = new FindCommand("ali");
+        assertTrue(findAli.equals(new FindCommand("ali")));
+        assertFalse(findAli.equals(new FindCommand("bob")));
+        assertFalse(findAli.equals(new FindCommand(preparePredicate("ali"))));
+    }
+
+    @Test
+    public void execute_nameFragment_personsListedBestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n\n"
+                + "(To get back to the full list of contacts, run the 'list' command)";
+        // every match has a later word starting with the fragment, so ties are broken by name
+        List<Person> expectedOrder = Arrays.asList(BENSON, DANIEL, ELLE);
+        expectedModel.updateFilteredPersonList(List.of(BENSON.getId(), DANIEL.getId(), ELLE.getId()));
+        assertCommandSuccess(new FindCommand("me"), model, expectedMessage, expectedModel);
+        assertEquals(expectedOrder, model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
+import seedu.address.storage.StorageManager;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_jsonDataFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook imported = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(imported);
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(imported, new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, imported.getPersonList().size(),
+                imported.getTuitionClassList().size(), filePath);
+        assertCommandSuccess(new ImportCommand(filePath, ImportCommandTest::readDataFile), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_sqlDataFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook imported = getTypicalAddressBook();
+        new SqlAddressBookStorage(filePath).saveAddressBook(imported);
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(imported, new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, imported.getPersonList().size(),
+                imported.getTuitionClassList().size(), filePath);
+        assertCommandSuccess(new ImportCommand(filePath, ImportCommandTest::readDataFile), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.json");
+        assertCommandFailure(new ImportCommand(filePath, ImportCommandTest::readDataFile), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidFile_failure() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.writeString(filePath, "not json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        try {
+            new ImportCommand(filePath, ImportCommandTest::readDataFile).execute(model);
+        } catch (CommandException e) {
+            assertTrue(e.getMessage().startsWith(String.format(ImportCommand.MESSAGE_INVALID_FILE, filePath, "")));
+            assertEquals(getTypicalAddressBook(), model.getAddressBook());
+            return;
+        }
+        throw new AssertionError("Expected a CommandException");
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("addressbook.json"),
+                ImportCommandTest::readDataFile);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("addressbook.json"),
+                ImportCommandTest::readDataFile)));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("backup.json"), ImportCommandTest::readDataFile)));
+    }
+
+    /**
+     * Reads the data file at {@code filePath} in the format given by its header, as the storage of the app does.
+     */
+    private static Optional<ReadOnlyAddressBook> readDataFile(Path filePath) throws DataLoadingException {
+        return new StorageManager(new JsonAddressBookStorage(filePath), null).readAddressBook(filePath);
+    }
+}
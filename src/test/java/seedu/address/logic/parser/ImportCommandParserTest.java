@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final ImportCommand.DataFileReader NO_FILES = filePath -> Optional.empty();
+
+    private final ImportCommandParser parser = new ImportCommandParser(NO_FILES);
+
+    @Test
+    public void parse_validPath_success() {
+        assertParseSuccess(parser, " data/addressbook.json",
+                new ImportCommand(Paths.get("data", "addressbook.json"), NO_FILES));
+
+        // leading and trailing spaces
+        assertParseSuccess(parser, "   backup.json   ", new ImportCommand(Paths.get("backup.json"), NO_FILES));
+    }
+
+    @Test
+    public void parse_missingPath_failure() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_failure() {
+        assertParseFailure(parser, "a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
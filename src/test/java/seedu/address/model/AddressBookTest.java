@@ -7,7 +7,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalTuitionClasses.MONDAY_CLASS;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -17,6 +20,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -32,6 +36,21 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void getVersion_changesOnlyOnModification() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.setPerson(ALICE, ALICE);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -55,6 +74,30 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withLists_notifiesListenersOnce() {
+        int[] personNotifications = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> personNotifications[0]++);
+
+        addressBook.resetData(getTypicalPersons(), List.of(MONDAY_CLASS));
+
+        assertEquals(1, personNotifications[0]);
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+        assertEquals(List.of(MONDAY_CLASS), addressBook.getTuitionClassList());
+    }
+
+    @Test
+    public void resetData_listsWithDuplicatePersons_leavesPersonsUnchanged() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.resetData(Arrays.asList(BOB, editedAlice, ALICE), List.of()));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertTrue(addressBook.findPersonById(ALICE.getId()).isPresent());
+        assertFalse(addressBook.findPersonById(BOB.getId()).isPresent());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
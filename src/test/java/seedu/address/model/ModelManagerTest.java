@@ -7,16 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +97,26 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_personIds_listedInOrderAndKeptInStep() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build());
+        modelManager.updateFilteredPersonList(List.of(CARL.getId(), ALICE.getId()));
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        // an edited person keeps its place in the list
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99990000").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(CARL, editedAlice), modelManager.getFilteredPersonList());
+
+        // a person no longer in the address book is dropped
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(editedAlice).withPerson(BENSON).build());
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
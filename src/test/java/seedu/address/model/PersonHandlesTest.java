@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class PersonHandlesTest {
+
+    private final PersonHandles handles = new PersonHandles();
+    private final PersonId first = PersonId.newId();
+    private final PersonId second = PersonId.newId();
+    private final PersonId third = PersonId.newId();
+
+    @Test
+    public void assign_sameId_returnsSameHandle() {
+        assertEquals(0, handles.assign(first));
+        assertEquals(1, handles.assign(second));
+        assertEquals(0, handles.assign(first));
+        assertEquals(first, handles.idOf(0));
+        assertEquals(2, handles.capacity());
+    }
+
+    @Test
+    public void release_handleIsReusedByNextAssignment() {
+        handles.assign(first);
+        handles.assign(second);
+
+        assertEquals(0, handles.release(first));
+        assertEquals(PersonHandles.NO_HANDLE, handles.handleOf(first));
+        assertNull(handles.idOf(0));
+        assertEquals(PersonHandles.NO_HANDLE, handles.release(first));
+
+        assertEquals(0, handles.assign(third));
+        assertEquals(third, handles.idOf(0));
+        assertEquals(2, handles.capacity());
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class RelationshipIndexTest {
+
+    private final RelationshipIndex index = new RelationshipIndex();
+
+    private final Student student = (Student) new PersonBuilder().withCategory("student").withName("Sam").build();
+    private final Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Pat").build();
+    private final TuitionClass tuitionClass = new TuitionClass(Day.MONDAY, Time.H12);
+
+    @Test
+    public void indexPerson_linkedStudentAndParent_recordsBothDirections() {
+        student.setParentId(parent.getId());
+        parent.addChildId(student.getId());
+        index.indexPerson(student);
+        index.indexPerson(parent);
+
+        assertEquals(Set.of(student.getId()), index.getStudentsLinkedTo(parent.getId()));
+        assertEquals(Set.of(parent.getId()), index.getParentsOf(student.getId()));
+    }
+
+    @Test
+    public void indexPerson_afterInPlaceMutation_dropsPreviouslyRecordedEdges() {
+        parent.addChildId(student.getId());
+        index.indexPerson(parent);
+
+        parent.removeChildId(student.getId());
+        index.indexPerson(parent);
+
+        assertEquals(Set.of(), index.getParentsOf(student.getId()));
+    }
+
+    @Test
+    public void indexClass_tutorAndStudents_recordsReverseEdges() {
+        Person tutor = new PersonBuilder().withCategory("tutor").withName("Tia").build();
+        tuitionClass.setTutorId(tutor.getId());
+        tuitionClass.addStudentId(student.getId());
+        index.indexClass(tuitionClass);
+
+        assertEquals(Set.of(tuitionClass.getClassId()), index.getClassesTaughtBy(tutor.getId()));
+        assertEquals(Set.of(tuitionClass.getClassId()), index.getClassesAttendedBy(student.getId()));
+
+        tuitionClass.removeTutorId();
+        index.indexClass(tuitionClass);
+        assertEquals(Set.of(), index.getClassesTaughtBy(tutor.getId()));
+    }
+
+    @Test
+    public void unindexPerson_removesRecordedEdges() {
+        student.setParentId(parent.getId());
+        index.reindexPersons(List.of(student, parent));
+
+        index.unindexPerson(student.getId());
+
+        assertEquals(Set.of(), index.getStudentsLinkedTo(parent.getId()));
+    }
+
+    @Test
+    public void removePerson_releasesHandleForReuse() {
+        Person tutor = new PersonBuilder().withCategory("tutor").withName("Tia").build();
+        tuitionClass.setTutorId(tutor.getId());
+        index.reindexPersons(List.of(tutor));
+        index.indexClass(tuitionClass);
+
+        index.removePerson(tutor.getId());
+        assertEquals(Set.of(), index.getClassesTaughtBy(tutor.getId()));
+
+        // the next person takes over the released handle without inheriting the removed person's edges
+        index.indexPerson(student);
+        assertEquals(Set.of(), index.getClassesTaughtBy(student.getId()));
+        assertEquals(Set.of(), index.getClassesAttendedBy(student.getId()));
+    }
+
+    @Test
+    public void reindexPersons_relinksRecordedClassEdges() {
+        tuitionClass.addStudentId(student.getId());
+        index.indexClass(tuitionClass);
+
+        index.reindexPersons(List.of(parent, student));
+
+        assertEquals(Set.of(tuitionClass.getClassId()), index.getClassesAttendedBy(student.getId()));
+    }
+
+    @Test
+    public void getParentsOfStudentsTaughtBy_joinsClassesStudentsAndParents() {
+        Person tutor = new PersonBuilder().withCategory("tutor").withName("Tia").build();
+        Student otherStudent = (Student) new PersonBuilder().withCategory("student").withName("Sue").build();
+        Parent otherParent = (Parent) new PersonBuilder().withCategory("parent").withName("Pam").build();
+        student.setParentId(parent.getId());
+        otherParent.addChildId(otherStudent.getId());
+        index.reindexPersons(List.of(tutor, student, parent, otherStudent, otherParent));
+
+        tuitionClass.setTutorId(tutor.getId());
+        tuitionClass.addStudentId(student.getId());
+        index.indexClass(tuitionClass);
+        assertEquals(Set.of(parent.getId()), index.getParentsOfStudentsTaughtBy(tutor.getId()));
+
+        TuitionClass otherClass = new TuitionClass(Day.FRIDAY, Time.H20);
+        otherClass.setTutorId(tutor.getId());
+        otherClass.addStudentId(otherStudent.getId());
+        index.indexClass(otherClass);
+        assertEquals(Set.of(parent.getId(), otherParent.getId()), index.getParentsOfStudentsTaughtBy(tutor.getId()));
+
+        assertEquals(Set.of(), index.getParentsOfStudentsTaughtBy(parent.getId()));
+    }
+}
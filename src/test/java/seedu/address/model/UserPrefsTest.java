@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void resetData_copiesStorageOptions() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookStorageBackend("journal");
+        userPrefs.setAddressBookLazyLoadingEnabled(true);
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(userPrefs, copy);
+        assertEquals(userPrefs.hashCode(), copy.hashCode());
+
+        copy.setAddressBookStorageBackend("json");
+        assertNotEquals(userPrefs, copy);
+
+        copy = new UserPrefs(userPrefs);
+        copy.setAddressBookLazyLoadingEnabled(false);
+        assertNotEquals(userPrefs, copy);
+    }
+
 }
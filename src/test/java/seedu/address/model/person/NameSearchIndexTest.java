@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NameSearchIndexTest {
+
+    private final NameSearchIndex index = new NameSearchIndex();
+
+    private final PersonId alId = PersonId.newId();
+    private final PersonId alexId = PersonId.newId();
+    private final PersonId sallyId = PersonId.newId();
+    private final PersonId natalieId = PersonId.newId();
+
+    private void addAll() {
+        index.add(natalieId, new Name("Natalie Tan"));
+        index.add(sallyId, new Name("Sally Alvarez"));
+        index.add(alexId, new Name("Alex Yeoh"));
+        index.add(alId, new Name("Al"));
+    }
+
+    @Test
+    public void findByWords_wholeWordsOnly() {
+        addAll();
+        assertEquals(List.of(alexId), index.findByWords(List.of("ALEX")));
+        assertEquals(List.of(), index.findByWords(List.of("ale")));
+        assertEquals(List.of(alexId, natalieId), index.findByWords(List.of("yeoh", " tan ")));
+    }
+
+    @Test
+    public void search_rankedByMatchQuality() {
+        PersonId exact = PersonId.newId();
+        PersonId namePrefix = PersonId.newId();
+        PersonId wordPrefix = PersonId.newId();
+        PersonId infix = PersonId.newId();
+        index.add(infix, new Name("Joanne Ong"));
+        index.add(wordPrefix, new Name("Lee Annabel"));
+        index.add(namePrefix, new Name("Anna Lee"));
+        index.add(exact, new Name("Ann"));
+
+        assertEquals(List.of(exact, namePrefix, wordPrefix, infix), index.search("ann"));
+    }
+
+    @Test
+    public void search_shortFragment_matchesWordPrefixesOnly() {
+        addAll();
+        // "al" is inside "Natalie" but fragments shorter than three characters only match word prefixes
+        assertEquals(List.of(alId, alexId, sallyId), index.search("al"));
+    }
+
+    @Test
+    public void search_longFragment_matchesAnywhere() {
+        addAll();
+        assertEquals(List.of(alexId), index.search("ale"));
+        assertEquals(List.of(natalieId), index.search("TALI"));
+        assertEquals(List.of(sallyId), index.search(" SALLY   alv "));
+        assertEquals(List.of(), index.search("xyz"));
+        assertEquals(List.of(), index.search("  "));
+    }
+
+    @Test
+    public void remove_dropsPostings() {
+        addAll();
+        index.remove(alexId, new Name("Alex Yeoh"));
+        assertEquals(List.of(), index.search("ale"));
+        assertEquals(List.of(alId, sallyId), index.search("al"));
+        assertEquals(List.of(), index.findByWords(List.of("alex")));
+
+        index.clear();
+        assertEquals(List.of(), index.search("tan"));
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +40,15 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void toIdentityKey() {
+        // differing case and whitespace -> same key
+        assertEquals(new Name("peter jack").toIdentityKey(), new Name("Peter   JACK ").toIdentityKey());
+
+        // different names -> different keys
+        assertFalse(new Name("peter jack").toIdentityKey().equals(new Name("peter jacks").toIdentityKey()));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -57,4 +68,9 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName, "Peter Jack ", "R2D2 3PO");
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    private static final String VALID_ID = "1a1a1a1a-1111-1111-1111-111111111111";
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonId.of(null));
+    }
+
+    @Test
+    public void of_nonUuidValue_mapsToStableUuid() {
+        PersonId id = PersonId.of("7g7g7g7g-7777-7777-7777-777777777777");
+
+        // same value -> same id
+        assertEquals(id, PersonId.of("7g7g7g7g-7777-7777-7777-777777777777"));
+
+        // saved in UUID form from then on
+        assertTrue(PersonId.isValidId(id.getValue()));
+        assertEquals(id, PersonId.of(id.getValue()));
+
+        // different values -> different ids
+        assertNotEquals(id, PersonId.of("not-a-uuid"));
+    }
+
+    @Test
+    public void isValidId() {
+        // invalid ids
+        assertFalse(PersonId.isValidId("")); // empty string
+        assertFalse(PersonId.isValidId("7g7g7g7g-7777-7777-7777-777777777777")); // non-hex digits
+        assertFalse(PersonId.isValidId("1-1-1-1-1")); // groups too short
+        assertFalse(PersonId.isValidId(VALID_ID + "1")); // trailing digit
+
+        // valid ids
+        assertTrue(PersonId.isValidId(VALID_ID));
+        assertTrue(PersonId.isValidId(VALID_ID.toUpperCase())); // upper case hex
+    }
+
+    @Test
+    public void getValue_roundTripsStringForm() {
+        assertEquals(VALID_ID, PersonId.of(VALID_ID).getValue());
+        assertEquals(VALID_ID, PersonId.of(VALID_ID.toUpperCase()).toString());
+
+        PersonId generated = PersonId.newId();
+        assertEquals(generated, PersonId.of(generated.getValue()));
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = PersonId.of(VALID_ID);
+
+        // same values -> returns true
+        assertTrue(id.equals(PersonId.of(VALID_ID)));
+        assertEquals(id.hashCode(), PersonId.of(VALID_ID).hashCode());
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(VALID_ID));
+
+        // different values -> returns false
+        assertNotEquals(id, PersonId.of("1a1a1a1a-1111-1111-1111-111111111112"));
+    }
+}
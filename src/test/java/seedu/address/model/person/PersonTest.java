@@ -14,6 +14,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -107,6 +109,25 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getContactDetails_fromSource_fetchedOnlyWhenNeeded() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        ContactDetails details = new ContactDetails(ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags());
+        Person lazyAlice = new Person(ALICE.getId(), ALICE.getCategory(), ALICE.getName(), () -> {
+            fetchCount.incrementAndGet();
+            return details;
+        });
+        assertEquals(0, fetchCount.get());
+        assertTrue(lazyAlice.isSamePerson(ALICE));
+        assertEquals(0, fetchCount.get());
+
+        assertEquals(ALICE.getPhone(), lazyAlice.getPhone());
+        assertEquals(ALICE.getTags(), lazyAlice.getTags());
+        assertEquals(2, fetchCount.get());
+        assertEquals(ALICE, lazyAlice);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = ALICE.getClass().getCanonicalName() + "{id=" + ALICE.getId() + ", category="
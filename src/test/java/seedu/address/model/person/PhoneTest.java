@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +68,10 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("98765432")));
     }
+
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone,
+                "91234567", "31234567", "61234567", "81234567", "71234567", "912345678", "9123456a");
+    }
 }
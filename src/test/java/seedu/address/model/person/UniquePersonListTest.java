@@ -8,10 +8,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -162,12 +166,95 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findById(null));
+    }
+
+    @Test
+    public void findById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void findById_afterMutations_tracksBackingList() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.findById(ALICE.getId()).get() == editedAlice);
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void findByName_differentCaseAndSpacing_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name query = new Name(ALICE.getName().fullName.toUpperCase().replace(" ", "   "));
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(query));
+    }
+
+    @Test
+    public void findIdsByNameKeywords_matchingWords_returnsUnionOfMatches() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        String aliceFirstName = ALICE.getName().fullName.split(" ")[0];
+        String bobFirstName = BOB.getName().fullName.split(" ")[0];
+
+        assertEquals(List.of(ALICE.getId()), uniquePersonList.findIdsByNameKeywords(
+                List.of(aliceFirstName.toUpperCase())));
+        assertEquals(List.of(ALICE.getId(), BOB.getId()), uniquePersonList.findIdsByNameKeywords(
+                List.of(aliceFirstName, bobFirstName)));
+
+        // partial word -> no match
+        assertEquals(List.of(), uniquePersonList.findIdsByNameKeywords(List.of(aliceFirstName.substring(1))));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(), uniquePersonList.findIdsByNameKeywords(List.of(aliceFirstName)));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByName(ALICE.getName()));
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void asUnmodifiableObservableList_category_tracksBackingListInOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, DANIEL, CARL, FIONA));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList(Category.STUDENT));
+        assertEquals(List.of(DANIEL), uniquePersonList.asUnmodifiableObservableList(Category.PARENT));
+
+        // category change -> moves to the new partition at its position in the backing list
+        Person danielAsStudent = new PersonBuilder(DANIEL).withCategory("student").build();
+        uniquePersonList.setPerson(DANIEL, danielAsStudent);
+        assertEquals(Arrays.asList(ALICE, danielAsStudent, CARL),
+                uniquePersonList.asUnmodifiableObservableList(Category.STUDENT));
+        assertEquals(List.of(), uniquePersonList.asUnmodifiableObservableList(Category.PARENT));
+
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, danielAsStudent, BOB),
+                uniquePersonList.asUnmodifiableObservableList(Category.STUDENT));
+        assertEquals(List.of(FIONA), uniquePersonList.asUnmodifiableObservableList(Category.TUTOR));
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
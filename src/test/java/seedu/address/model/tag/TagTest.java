@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidationTestUtil.assertSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +24,8 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, "friends", " spaced tag ");
+    }
 }
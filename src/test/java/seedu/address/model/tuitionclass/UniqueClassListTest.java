@@ -0,0 +1,93 @@
+package seedu.address.model.tuitionclass;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassException;
+
+public class UniqueClassListTest {
+
+    private static final TuitionClass MONDAY_H12 = new TuitionClass(Day.MONDAY, Time.H12);
+    private static final TuitionClass SUNDAY_H20 = new TuitionClass(Day.SUNDAY, Time.H20);
+
+    private final UniqueClassList uniqueClassList = new UniqueClassList();
+
+    @Test
+    public void contains_classNotInList_returnsFalse() {
+        assertFalse(uniqueClassList.contains(MONDAY_H12));
+    }
+
+    @Test
+    public void contains_classWithSameTimeslotInList_returnsTrue() {
+        uniqueClassList.add(MONDAY_H12);
+        assertTrue(uniqueClassList.contains(new TuitionClass(Day.MONDAY, Time.H12)));
+    }
+
+    @Test
+    public void add_duplicateClass_throwsDuplicateTuitionClassException() {
+        uniqueClassList.add(MONDAY_H12);
+        assertThrows(DuplicateTuitionClassException.class, () -> uniqueClassList.add(MONDAY_H12));
+    }
+
+    @Test
+    public void find_classInList_returnsClass() {
+        uniqueClassList.add(SUNDAY_H20);
+        assertEquals(Optional.of(SUNDAY_H20), uniqueClassList.find(new ClassId(Day.SUNDAY, Time.H20)));
+        assertEquals(Optional.empty(), uniqueClassList.find(new ClassId(Day.MONDAY, Time.H12)));
+    }
+
+    @Test
+    public void setTuitionClass_differentTimeslot_movesSlot() {
+        uniqueClassList.add(MONDAY_H12);
+        uniqueClassList.setTuitionClass(MONDAY_H12, SUNDAY_H20);
+        assertFalse(uniqueClassList.contains(MONDAY_H12));
+        assertTrue(uniqueClassList.contains(SUNDAY_H20));
+    }
+
+    @Test
+    public void setTuitionClass_occupiedTimeslot_throwsDuplicateTuitionClassException() {
+        uniqueClassList.add(MONDAY_H12);
+        uniqueClassList.add(SUNDAY_H20);
+        assertThrows(DuplicateTuitionClassException.class, ()
+            -> uniqueClassList.setTuitionClass(MONDAY_H12, new TuitionClass(Day.SUNDAY, Time.H20)));
+    }
+
+    @Test
+    public void setTuitionClasses_list_replacesOwnListWithProvidedList() {
+        uniqueClassList.add(MONDAY_H12);
+        uniqueClassList.setTuitionClasses(Collections.singletonList(SUNDAY_H20));
+        assertFalse(uniqueClassList.contains(MONDAY_H12));
+        assertTrue(uniqueClassList.contains(SUNDAY_H20));
+    }
+
+    @Test
+    public void setTuitionClasses_listWithDuplicateClasses_throwsDuplicateTuitionClassException() {
+        List<TuitionClass> listWithDuplicates = Arrays.asList(MONDAY_H12, new TuitionClass(Day.MONDAY, Time.H12));
+        assertThrows(DuplicateTuitionClassException.class, () -> uniqueClassList.setTuitionClasses(listWithDuplicates));
+    }
+
+    @Test
+    public void toSlotIndex_allTimeslots_distinctAndInRange() {
+        Set<Integer> seen = new HashSet<>();
+        for (Day day : Day.values()) {
+            for (Time time : Time.values()) {
+                ClassId classId = new ClassId(day, time);
+                int slot = classId.toSlotIndex();
+                assertTrue(slot >= 0 && slot < ClassId.SLOT_COUNT);
+                assertTrue(seen.add(slot));
+                assertEquals(classId, ClassId.fromSlotIndex(slot));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class SwitchableListViewTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("c");
+    private final SwitchableListView<String> view = new SwitchableListView<>(first);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SwitchableListView<String>(null));
+    }
+
+    @Test
+    public void setSource_forwardsChangesOfCurrentSourceOnly() {
+        List<String> mirror = new FilteredList<>(view);
+        view.setSource(second);
+        assertEquals(List.of("c"), mirror);
+
+        first.add("ignored");
+        second.add("d");
+        second.set(0, "e");
+        assertEquals(List.of("e", "d"), new ArrayList<>(mirror));
+
+        view.setSource(first);
+        second.remove(0);
+        first.remove("ignored");
+        assertEquals(List.of("a", "b"), new ArrayList<>(mirror));
+    }
+}
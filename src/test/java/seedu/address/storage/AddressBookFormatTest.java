@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AddressBookFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void detect() throws Exception {
+        Path filePath = testFolder.resolve("data");
+
+        // missing file
+        assertFalse(AddressBookFormat.detect(filePath).isPresent());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormat.detect(filePath));
+
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.SHARDED), AddressBookFormat.detect(filePath));
+
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.SQL), AddressBookFormat.detect(filePath));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormat.detect(filePath));
+
+        // files too short for a header are not binary snapshots
+        Files.write(filePath, new byte[] {BinaryAddressBookStorage.MAGIC[0]});
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormat.detect(filePath));
+        Files.write(filePath, new byte[0]);
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormat.detect(filePath));
+    }
+
+    @Test
+    public void createStorage() {
+        Path filePath = testFolder.resolve("data");
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            AddressBookStorage storage = format.createStorage(filePath);
+            assertEquals(format, storage.getAddressBookFormat());
+            assertEquals(filePath, storage.getAddressBookFilePath());
+        }
+    }
+}
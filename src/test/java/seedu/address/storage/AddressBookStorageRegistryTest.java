@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+public class AddressBookStorageRegistryTest {
+
+    private final AddressBookStorageRegistry registry = new AddressBookStorageRegistry();
+
+    @Test
+    public void getNames_builtInBackends() {
+        assertEquals(List.of("json", "journal", "binary", "sharded", "sql"), registry.getNames());
+        assertEquals(registry.getNames(), AddressBookStorageRegistry.withDiscoveredProviders().getNames());
+        assertFalse(registry.find("unknown").isPresent());
+    }
+
+    @Test
+    public void createStorage_defaultPrefs_jsonWithoutJournal() {
+        assertFalse(((JournaledAddressBookStorage) createStorage(new UserPrefs())).isJournaling());
+    }
+
+    @Test
+    public void createStorage_namedBackend_chosenByName() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookStorageBackend("journal");
+        assertTrue(((JournaledAddressBookStorage) createStorage(userPrefs)).isJournaling());
+
+        userPrefs.setAddressBookStorageBackend("sharded");
+        assertTrue(createStorage(userPrefs) instanceof ShardedAddressBookStorage);
+
+        userPrefs.setAddressBookStorageBackend("binary");
+        assertTrue(createStorage(userPrefs) instanceof BinaryAddressBookStorage);
+
+        userPrefs.setAddressBookStorageBackend("sql");
+        AddressBookStorage storage = createStorage(userPrefs);
+        assertTrue(storage instanceof SqlAddressBookStorage);
+        assertEquals(userPrefs.getAddressBookFilePath(), storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void createStorage_unknownBackend_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookStorageBackend("unknown");
+        assertThrows(IllegalArgumentException.class, String.format(
+                AddressBookStorageRegistry.MESSAGE_UNKNOWN_BACKEND, "unknown", registry.getNames()), () ->
+                createStorage(userPrefs));
+    }
+
+    @Test
+    public void createStorage_lazyLoading_rejectedUnlessSupported() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookLazyLoadingEnabled(true);
+        assertTrue(createStorage(userPrefs) instanceof JournaledAddressBookStorage);
+        userPrefs.setAddressBookStorageBackend("journal");
+        assertTrue(createStorage(userPrefs) instanceof JournaledAddressBookStorage);
+
+        for (String name : List.of("binary", "sharded", "sql")) {
+            userPrefs.setAddressBookStorageBackend(name);
+            assertThrows(IllegalArgumentException.class, String.format(
+                    AddressBookStorageRegistry.MESSAGE_LAZY_LOADING_UNSUPPORTED, name), () ->
+                    createStorage(userPrefs));
+        }
+    }
+
+    @Test
+    public void register_customBackend_chosenByName() {
+        AddressBookStorage customStorage = new BinaryAddressBookStorage(Paths.get("custom.bin"));
+        registry.register(new AddressBookStorageProvider() {
+            @Override
+            public String getName() {
+                return "custom";
+            }
+
+            @Override
+            public AddressBookStorage createStorage(Path filePath, ReadOnlyUserPrefs userPrefs,
+                    LoadProgressListener progressListener) {
+                return customStorage;
+            }
+        });
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookStorageBackend("custom");
+        assertSame(customStorage, createStorage(userPrefs));
+        assertTrue(registry.getNames().contains("custom"));
+    }
+
+    private AddressBookStorage createStorage(ReadOnlyUserPrefs userPrefs) {
+        return registry.createStorage(userPrefs, LoadProgressListener.NONE);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    // Long enough that a test never sees a scheduled write before it flushes
+    private static final long COALESCING_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_burstOfSaves_writesLatestDataOnce() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, COALESCING_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(IDA);
+
+        // changes made after the last request are not saved
+        AddressBook expected = new AddressBook(addressBook);
+        expected.removePerson(IDA);
+
+        saver.flush();
+        assertEquals(1, storage.writeCount.get());
+        assertEquals(expected, storage.readAddressBook().get());
+        saver.close();
+    }
+
+    @Test
+    public void flush_failedWrite_reportsFailureAndRetries() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, COALESCING_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.isFailing.set(true);
+        saver.requestSave(addressBook);
+        assertThrows(IOException.class, CountingStorage.FAILURE_MESSAGE, saver::flush);
+        assertFalse(storage.readAddressBook().isPresent());
+
+        // the failure is reported once, and the unwritten save is retried
+        assertFalse(saver.takeFailure().isPresent());
+        storage.isFailing.set(false);
+        saver.flush();
+        assertEquals(addressBook, storage.readAddressBook().get());
+        saver.close();
+    }
+
+    @Test
+    public void requestSave_writesAfterDelay() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+
+        saver.requestSave(getTypicalAddressBook());
+        for (int i = 0; i < 500 && storage.writeCount.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(storage.writeCount.get() > 0);
+        saver.close();
+    }
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        BackgroundAddressBookSaver saver =
+                new BackgroundAddressBookSaver(new CountingStorage(testFolder.resolve("ab.json")));
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+    }
+
+    /**
+     * A json storage that counts its background writes and can be made to fail them.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        static final String FAILURE_MESSAGE = "dummy write failure";
+
+        final AtomicInteger writeCount = new AtomicInteger();
+        final AtomicBoolean isFailing = new AtomicBoolean();
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+            PendingSave save = super.prepareSave(addressBook);
+            return new PendingSave() {
+                @Override
+                public void write() throws IOException {
+                    if (isFailing.get()) {
+                        throw new IOException(FAILURE_MESSAGE);
+                    }
+                    writeCount.incrementAndGet();
+                    save.write();
+                }
+
+                @Override
+                public boolean supersedesEarlierSaves() {
+                    return save.supersedesEarlierSaves();
+                }
+            };
+        }
+    }
+}
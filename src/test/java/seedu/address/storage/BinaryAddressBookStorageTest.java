@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalTuitionClasses.getLinkedAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getTuitionClassList(), readBack.getTuitionClassList());
+
+        // the relationships are restored too
+        Person student = readBack.findPersonByName(new Name("Linked Student")).get();
+        assertEquals(original.getParentIdsOf(student.getId()), readBack.getParentIdsOf(student.getId()));
+        assertEquals(original.getClassIdsAttendedBy(student.getId()), readBack.getClassIdsAttendedBy(student.getId()));
+
+        // overwrite through a pending save
+        original.addPerson(HOON);
+        storage.prepareSave(original).write();
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_fileJustRead_replacedWithoutAffectingReadData() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+        storage.saveAddressBook(original);
+
+        // the file is read into memory, not mapped, so it can be replaced straight away
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(original, readBack);
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_sharedStrings_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withAddress("A rather long shared address, #01-01").withTags("sharedTag").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(contents.indexOf("A rather long shared address"),
+                contents.lastIndexOf("A rather long shared address"));
+        assertEquals(contents.indexOf("sharedTag"), contents.lastIndexOf("sharedTag"));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        for (int length : new int[] {2, 10, bytes.length / 2, bytes.length - 1}) {
+            Files.write(filePath, Arrays.copyOf(bytes, length));
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(BinaryAddressBookStorage.MAGIC.length, BinaryAddressBookStorage.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        DataLoadingException e = assertThrowsDataLoading(filePath);
+        assertEquals(String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.VERSION + 1), e.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_invalidName_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Valid Name").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        // the name is the first string in the table; replace it with an invalid one of the same length
+        byte[] bytes = Files.readAllBytes(filePath);
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        int nameOffset = contents.indexOf("Valid Name");
+        System.arraycopy("Valid*Name".getBytes(StandardCharsets.US_ASCII), 0, bytes, nameOffset, 10);
+        Files.write(filePath, bytes);
+
+        DataLoadingException e = assertThrowsDataLoading(filePath);
+        assertTrue(e.getCause() instanceof IllegalValueException);
+        assertEquals(Name.MESSAGE_CONSTRAINTS, e.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        assertEquals(BinaryAddressBookReader.MESSAGE_NOT_BINARY, assertThrowsDataLoading(filePath)
+                .getCause().getMessage());
+    }
+
+    private static DataLoadingException assertThrowsDataLoading(Path filePath) {
+        try {
+            new BinaryAddressBookStorage(filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a DataLoadingException");
+    }
+}
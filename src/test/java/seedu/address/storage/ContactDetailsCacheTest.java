@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.ContactDetails;
+import seedu.address.model.person.Person;
+
+public class ContactDetailsCacheTest {
+
+    private static final List<Person> PERSONS = List.of(ALICE, BENSON, CARL);
+
+    @TempDir
+    public Path testFolder;
+
+    private FileChannel channel;
+    private ContactDetailsCache cache;
+
+    @AfterEach
+    public void closeChannel() throws Exception {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void get_recentlyUsed_keptInMemory() throws Exception {
+        List<LazyContactDetails> lazyDetails = writeRecords(2);
+
+        ContactDetails alice = lazyDetails.get(0).getContactDetails();
+        assertEquals(ALICE.getPhone(), alice.getPhone());
+        assertEquals(ALICE.getTags(), alice.getTags());
+        assertSame(alice, lazyDetails.get(0).getContactDetails());
+    }
+
+    @Test
+    public void get_pastCapacity_leastRecentlyUsedEvicted() throws Exception {
+        List<LazyContactDetails> lazyDetails = writeRecords(2);
+
+        ContactDetails alice = lazyDetails.get(0).getContactDetails();
+        ContactDetails benson = lazyDetails.get(1).getContactDetails();
+        assertSame(alice, lazyDetails.get(0).getContactDetails());
+        lazyDetails.get(2).getContactDetails();
+        assertEquals(2, cache.size());
+
+        // Benson was used least recently, so it is read again
+        ContactDetails bensonAgain = lazyDetails.get(1).getContactDetails();
+        assertNotSame(benson, bensonAgain);
+        assertEquals(benson, bensonAgain);
+        assertEquals(BENSON.getAddress(), bensonAgain.getAddress());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_recordBeyondFile_throwsUncheckedIoException() throws Exception {
+        writeRecords(1);
+        LazyContactDetails missing = new LazyContactDetails(cache, channel.size(), 10);
+        assertThrows(UncheckedIOException.class, missing::getContactDetails);
+    }
+
+    /**
+     * Writes the records of {@code PERSONS} to a file, separated by commas, and returns the lazy contact details of
+     * each, read through a cache of the given {@code capacity}.
+     */
+    private List<LazyContactDetails> writeRecords(int capacity) throws Exception {
+        Path filePath = testFolder.resolve("records.json");
+        StringBuilder data = new StringBuilder();
+        List<long[]> bounds = new ArrayList<>();
+        for (Person person : PERSONS) {
+            String record = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person));
+            long offset = data.toString().getBytes(StandardCharsets.UTF_8).length;
+            bounds.add(new long[] {offset, record.getBytes(StandardCharsets.UTF_8).length});
+            data.append(record).append(",\n");
+        }
+        Files.writeString(filePath, data, StandardCharsets.UTF_8);
+
+        channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        cache = new ContactDetailsCache(filePath, channel, capacity);
+        List<LazyContactDetails> lazyDetails = new ArrayList<>();
+        for (long[] bound : bounds) {
+            lazyDetails.add(new LazyContactDetails(cache, bound[0], (int) bound[1]));
+        }
+        return lazyDetails;
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_laterSaves_appendToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a snapshot
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // later saves only append the changes
+        original.addPerson(HOON);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        TuitionClass tuitionClass = new TuitionClass(Day.MONDAY, Time.H12);
+        tuitionClass.setTutorId(editedBenson.getId());
+        original.addTuitionClass(tuitionClass);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getTuitionClassList(), readBack.getTuitionClassList());
+
+        // saving without changes appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        // a different address book instance gets a fresh snapshot
+        AddressBook other = new AddressBook(readBack);
+        storage.saveAddressBook(other);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"type\":\"removeP",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_malformedEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                List.of("{\"type\":\"unknown\"}", "{\"type\":\"removeClass\",\"classId\":{\"day\":\"MONDAY\","
+                        + "\"time\":\"H12\"}}"), StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void recoverAddressBook_damagedSegment_replaysSegmentsBeforeIt() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        List<String> segments = new ArrayList<>(Files.readAllLines(journalPath));
+        segments.set(1, segments.get(1).replace(IDA.getName().fullName, "Ida Muller"));
+        Files.write(journalPath, segments, StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        byte[] damagedJournal = Files.readAllBytes(journalPath);
+        assertEquals(expected, storage.recoverAddressBook().get());
+
+        // the damaged journal is kept aside, so a snapshot removing the journal does not lose it
+        storage.saveAddressBook(new AddressBook(expected));
+        List<Path> copies;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            copies = files.filter(file -> file.getFileName().toString()
+                    .startsWith(journalPath.getFileName() + JournaledAddressBookStorage.CORRUPT_SUFFIX)).toList();
+        }
+        assertEquals(1, copies.size());
+        assertArrayEquals(damagedJournal, Files.readAllBytes(copies.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastLimit_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LoadProgressListener.NONE,
+                false, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the journal grows past both the minimum and the size of the address book
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i <= JournaledAddressBookStorage.MIN_ENTRIES_BEFORE_COMPACTION; i++) {
+            added.add(new PersonBuilder().withName("Person " + i).build());
+            original.addPerson(added.get(i));
+        }
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+        for (Person person : added) {
+            original.setPerson(person, new PersonBuilder(person).withPhone("99999999").build());
+        }
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingJournalFilePath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // later changes go to a new journal
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalMovedAsideForCompaction_replayedFirst() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // as if the application stopped before the moved journal was compacted
+        Files.move(journalPath, JournaledAddressBookStorage.getCompactingJournalFilePath(filePath));
+        Person editedHoon = new PersonBuilder(HOON).withPhone("99999999").build();
+        original.setPerson(HOON, editedHoon);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+        assertTrue(Files.exists(otherPath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherPath).get());
+    }
+
+    @Test
+    public void withoutJournaling_journalLeftByJournaledSession_replayedThenRemoved() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage journaled = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaled.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaled.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        // journaling turned off: the journaled change is still read
+        JournaledAddressBookStorage snapshotsOnly = JournaledAddressBookStorage.withoutJournaling(filePath,
+                LoadProgressListener.NONE, false);
+        assertFalse(snapshotsOnly.isJournaling());
+        AddressBook readBack = (AddressBook) snapshotsOnly.readAddressBook().get();
+        assertEquals(original, readBack);
+
+        // every save is a full snapshot, which removes the journal
+        readBack.removePerson(HOON);
+        snapshotsOnly.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        readBack.addPerson(IDA);
+        snapshotsOnly.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(readBack, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // journaling turned back on: no stale journal brings the removed person back
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
+    private static final String NON_UUID_ID = "7g7g7g7g-7777-7777-7777-777777777777";
     private static final String INVALID_CATEGORY = "invalid";
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_PHONE = "+651234";
@@ -147,6 +148,14 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_nonUuidId_mapsToStableId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(NON_UUID_ID, VALID_CATEGORY, VALID_NAME, VALID_PHONE,
+                VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, VALID_LINKED_PARENT_ID,
+                VALID_CHILDREN_IDS, VALID_CLASS_ID);
+        assertEquals(PersonId.of(NON_UUID_ID), person.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidCategory_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, INVALID_CATEGORY, VALID_NAME, VALID_PHONE,
@@ -2,13 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTuitionClasses.getLinkedAddressBook;
 
 import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,12 +20,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.GzipUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
 
+    private static final String INVALID_PHONE = "9435125a";
+
     @TempDir
     public Path testFolder;
 
@@ -86,6 +98,203 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_recordsChecksumOfDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path checksumFilePath = JsonAddressBookStorage.getChecksumFilePath(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(DataChecksum.of(filePath), FileUtil.readFromFile(checksumFilePath));
+
+        AddressBook modified = getTypicalAddressBook();
+        modified.removePerson(ALICE);
+        storage.prepareSave(modified).write();
+        assertEquals(DataChecksum.of(filePath), FileUtil.readFromFile(checksumFilePath));
+    }
+
+    @Test
+    public void prepareSave_modelChangedBeforeWrite_writesDataAsPrepared() throws Exception {
+        AddressBook addressBook = getLinkedAddressBook();
+        Path expectedPath = testFolder.resolve("Expected.json");
+        new JsonAddressBookStorage(expectedPath).saveAddressBook(addressBook);
+
+        Path filePath = testFolder.resolve("Prepared.json");
+        PendingSave save = new JsonAddressBookStorage(filePath).prepareSave(addressBook);
+        // links are changed in place, and persons replaced, after the save is prepared
+        Parent parent = (Parent) addressBook.findPersonByName(new Name("Linked Parent")).get();
+        Student student = (Student) addressBook.findPersonByName(new Name("Linked Student")).get();
+        parent.removeChildId(student.getId());
+        student.clearParent();
+        student.clearTuitionClass();
+        addressBook.getTuitionClassList().forEach(tuitionClass -> tuitionClass.removeStudentId(student.getId()));
+        addressBook.removePerson(parent);
+        save.write();
+
+        assertEquals(FileUtil.readFromFile(expectedPath), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_checksumMatches_fieldsNotValidated() throws Exception {
+        Path filePath = saveWithInvalidPhone();
+        FileUtil.writeToFile(JsonAddressBookStorage.getChecksumFilePath(filePath), DataChecksum.of(filePath));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(INVALID_PHONE, readBack.getPersonList().get(0).getPhone().value);
+    }
+
+    @Test
+    public void readAddressBook_fileEditedSinceSave_throwsDataLoadingException() throws Exception {
+        Path filePath = saveWithInvalidPhone();
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_checksumFileMissing_throwsDataLoadingException() throws Exception {
+        Path filePath = saveWithInvalidPhone();
+        Files.delete(JsonAddressBookStorage.getChecksumFilePath(filePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Saves the typical address book, then edits the phone of its first person to an invalid one without updating
+     * the recorded checksum. Returns the path of the data file.
+     */
+    private Path saveWithInvalidPhone() throws IOException {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String data = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, data.replace(ALICE.getPhone().value, INVALID_PHONE));
+        return filePath;
+    }
+
+    @Test
+    public void readAddressBook_lazy_contactDetailsFetchedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, LoadProgressListener.NONE, true);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        for (Person person : readBack.getPersonList()) {
+            assertTrue(person.getContactDetailsSource() instanceof LazyContactDetails);
+        }
+        assertEquals(original, readBack);
+        assertEquals(original.getTuitionClassList(), readBack.getTuitionClassList());
+
+        // the contact details are still read from the data as loaded after a save replaces the file
+        readBack.removePerson(readBack.getPersonList().get(0));
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, storage.readAddressBook().get());
+        original.removePerson(ALICE);
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_lazy_contactDetailsCopiedWithoutFetching() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getLinkedAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, LoadProgressListener.NONE, true);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.getPersonList().forEach(Person::hashCode);
+        Path copyPath = testFolder.resolve("Copy.json");
+        storage.saveAddressBook(readBack, copyPath);
+        for (Person person : readBack.getPersonList()) {
+            assertFalse(((LazyContactDetails) person.getContactDetailsSource()).isLoaded());
+        }
+
+        Path eagerPath = testFolder.resolve("Eager.json");
+        new JsonAddressBookStorage(eagerPath).saveAddressBook(original);
+        assertEquals(FileUtil.readFromFile(eagerPath), FileUtil.readFromFile(copyPath));
+        storage.close();
+    }
+
+    @Test
+    public void close_lazilyRead_dataFileClosed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, LoadProgressListener.NONE, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        LazyContactDetails firstRead = (LazyContactDetails) storage.readAddressBook().get().getPersonList().get(0)
+                .getContactDetailsSource();
+        LazyContactDetails secondRead = (LazyContactDetails) storage.readAddressBook().get().getPersonList().get(0)
+                .getContactDetailsSource();
+        // reloading closes the data file as previously read
+        assertThrows(ClosedChannelException.class, firstRead::readRecord);
+        secondRead.readRecord();
+
+        storage.close();
+        assertThrows(ClosedChannelException.class, secondRead::readRecord);
+    }
+
+    @Test
+    public void readAddressBook_lazyHandEditedName_normalisedAsWhenEager() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        String data = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, data.replace(ALICE.getName().fullName, "Alice   Pauline "));
+
+        JsonAddressBookStorage lazyStorage =
+                new JsonAddressBookStorage(filePath, LoadProgressListener.NONE, true);
+        AddressBook readBack = new AddressBook(lazyStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()), readBack);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipExtension_compressedRoundTrip() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(GzipUtil.isGzipFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // prepared saves are compressed too
+        original.addPerson(HOON);
+        storage.prepareSave(original).write();
+        assertTrue(GzipUtil.isGzipFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compressionDetectedByContent_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+
+        // plain json at a compressed file name
+        Path plainPath = testFolder.resolve("Plain.json");
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+        Path renamedPlainPath = testFolder.resolve("Renamed.json.gz");
+        Files.move(plainPath, renamedPlainPath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(renamedPlainPath).readAddressBook().get()));
+
+        // compressed json at a plain file name
+        Path compressedPath = testFolder.resolve("Compressed.json.gz");
+        new JsonAddressBookStorage(compressedPath).saveAddressBook(original);
+        Path renamedCompressedPath = testFolder.resolve("Renamed.json");
+        Files.move(compressedPath, renamedCompressedPath);
+        assertEquals(original,
+                new AddressBook(new JsonAddressBookStorage(renamedCompressedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazyCompressed_readsEagerly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, LoadProgressListener.NONE, true);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        for (Person person : readBack.getPersonList()) {
+            assertFalse(person.getContactDetailsSource() instanceof LazyContactDetails);
+        }
+        assertEquals(original, readBack);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTuitionClasses.getLinkedAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_indented_sameAsDataBinding() throws Exception {
+        AddressBook addressBook = getLinkedAddressBook();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                write(addressBook));
+    }
+
+    @Test
+    public void write_readBack_sameAddressBook() throws Exception {
+        AddressBook addressBook = getLinkedAddressBook();
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(file, write(addressBook));
+
+        AddressBook readBack = StreamingJsonAddressBookReader.read(file, LoadProgressListener.NONE);
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getTuitionClassList(), readBack.getTuitionClassList());
+    }
+
+    private static String write(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -6,12 +6,18 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.testutil.TypicalTuitionClasses;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +26,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NON_UUID_IDS_FILE = TEST_DATA_FOLDER.resolve("nonUuidIdsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -42,6 +49,24 @@ public class JsonSerializableAddressBookTest {
         assertEquals(ab.getTuitionClassList(), deserializedAb.getTuitionClassList());
     }
 
+    @Test
+    public void toModelType_nonUuidIds_mapsEveryReferenceToSameId() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NON_UUID_IDS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        PersonId studentId = PersonId.of("student-1");
+        PersonId parentId = PersonId.of("parent-1");
+        Person student = addressBookFromFile.findPersonById(studentId).get();
+        Person parent = addressBookFromFile.findPersonById(parentId).get();
+        assertEquals(parentId, student.getParentId());
+        assertEquals(Set.of(studentId), ((Parent) parent).getChildrenIds());
+
+        TuitionClass tuitionClass = addressBookFromFile.getTuitionClassList().get(0);
+        assertEquals(PersonId.of("tutor-1"), tuitionClass.getTutorId());
+        assertEquals(Set.of(studentId), tuitionClass.getStudentIds());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -57,4 +82,13 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateClasses_throwsIllegalValueException() {
+        JsonAdaptedTuitionClass mondayClass = new JsonAdaptedTuitionClass(TypicalTuitionClasses.MONDAY_CLASS);
+        JsonSerializableAddressBook serializableAb = new JsonSerializableAddressBook(List.of(),
+                List.of(mondayClass, mondayClass));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLASS,
+                serializableAb::toModelType);
+    }
+
 }
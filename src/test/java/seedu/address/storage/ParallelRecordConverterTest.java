@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = 3 * ParallelRecordConverter.BATCH_SIZE + 5;
+
+    @Test
+    public void finish_manyRecords_resultsInOrder() {
+        List<String> results = new ArrayList<>();
+        ParallelRecordConverter<Integer, String> converter =
+                new ParallelRecordConverter<>("Number", String::valueOf, results);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i, i + 1);
+        }
+
+        assertTrue(converter.finish().isEmpty());
+        assertEquals(IntStream.range(0, RECORD_COUNT).mapToObj(String::valueOf).collect(Collectors.toList()),
+                results);
+    }
+
+    @Test
+    public void finish_invalidRecords_allErrorsCollectedInOrder() {
+        List<Integer> results = new ArrayList<>();
+        ParallelRecordConverter<Integer, Integer> converter =
+                new ParallelRecordConverter<>("Number", ParallelRecordConverterTest::requireEven, results);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i, 10 * i);
+        }
+
+        List<String> errors = converter.finish();
+        assertEquals(RECORD_COUNT / 2, errors.size());
+        assertEquals("Number 2 (line 10): 1 is odd", errors.get(0));
+        assertEquals("Number " + (RECORD_COUNT - 1) + " (line " + 10 * (RECORD_COUNT - 2) + "): "
+                + (RECORD_COUNT - 2) + " is odd", errors.get(errors.size() - 1));
+        assertEquals((RECORD_COUNT + 1) / 2, results.size());
+    }
+
+    @Test
+    public void convert_unknownLines_errorsWithoutLines() {
+        List<Integer> results = new ArrayList<>();
+        List<String> errors = new ParallelRecordConverter<>("Number", ParallelRecordConverterTest::requireEven,
+                results).convert(List.of(2, 3, 4));
+        assertEquals(List.of("Number 2: 3 is odd"), errors);
+        assertEquals(List.of(2, 4), results);
+    }
+
+    @Test
+    public void requireNoErrors() throws Exception {
+        ParallelRecordConverter.requireNoErrors(List.of());
+
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordConverter.MESSAGE_INVALID_RECORDS, 2,
+                "first\nsecond"), () -> ParallelRecordConverter.requireNoErrors(List.of("first", "second")));
+
+        // only the first few errors are described
+        int errorCount = ParallelRecordConverter.MAX_REPORTED_ERRORS + 3;
+        List<String> errors = IntStream.range(0, errorCount).mapToObj(String::valueOf).collect(Collectors.toList());
+        String expectedMessage = String.format(ParallelRecordConverter.MESSAGE_INVALID_RECORDS, errorCount,
+                String.join("\n", errors.subList(0, ParallelRecordConverter.MAX_REPORTED_ERRORS))
+                        + String.format(ParallelRecordConverter.MESSAGE_MORE_INVALID_RECORDS, 3));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelRecordConverter.requireNoErrors(errors));
+    }
+
+    private static Integer requireEven(Integer number) throws IllegalValueException {
+        if (number % 2 != 0) {
+            throw new IllegalValueException(number + " is odd");
+        }
+        return number;
+    }
+}
@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTuitionClasses.getLinkedAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertSameData(original, readBack);
+
+        // the relationships are restored too
+        AddressBook readBackAddressBook = (AddressBook) readBack;
+        Person student = readBackAddressBook.findPersonByName(new Name("Linked Student")).get();
+        assertEquals(original.getParentIdsOf(student.getId()), readBackAddressBook.getParentIdsOf(student.getId()));
+
+        // saving to another file writes every shard there
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(original, otherFilePath);
+        assertSameData(original, storage.readAddressBook(otherFilePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_changedPerson_rewritesOnlyItsShard() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = getLinkedAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> shardFilesBefore = markShardFilesOld(filePath);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99990000").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> shardFilesAfter = listShardFiles(filePath);
+        Set<String> removed = new HashSet<>(shardFilesBefore);
+        removed.removeAll(shardFilesAfter);
+        Set<String> added = new HashSet<>(shardFilesAfter);
+        added.removeAll(shardFilesBefore);
+        String aliceShard = ShardedAddressBookStorage.getShardName(ALICE);
+        assertEquals(1, removed.size());
+        assertTrue(removed.iterator().next().startsWith(aliceShard + "."));
+        assertEquals(1, added.size());
+        assertTrue(added.iterator().next().startsWith(aliceShard + "."));
+
+        // the other shards were left untouched
+        for (String shardFile : shardFilesAfter) {
+            if (!added.contains(shardFile)) {
+                assertEquals(OLD_TIME, Files.getLastModifiedTime(getShardDirectory(filePath).resolve(shardFile)));
+            }
+        }
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void prepareSave_unchangedAddressBook_nothingToWrite() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("ab.json"));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        PendingSave firstSave = storage.prepareSave(addressBook);
+        assertTrue(firstSave.supersedesEarlierSaves());
+        firstSave.write();
+        assertSame(PendingSave.NONE, storage.prepareSave(addressBook));
+
+        addressBook.addPerson(HOON);
+        PendingSave secondSave = storage.prepareSave(addressBook);
+        assertFalse(secondSave.supersedesEarlierSaves());
+        secondSave.write();
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_emptiedShard_unlistedAndDeleted() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, listShardFiles(filePath).size());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(listShardFiles(filePath).isEmpty());
+        assertEquals(List.of(ShardedAddressBookStorage.MANIFEST_HEADER), Files.readAllLines(filePath));
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        ShardedAddressBookStorage.deleteShards(filePath);
+        assertFalse(Files.exists(getShardDirectory(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_corruptedShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path shardFile = getShardDirectory(filePath).resolve(listShardFiles(filePath).iterator().next());
+        String contents = Files.readString(shardFile);
+        Files.writeString(shardFile, contents.replaceFirst("\"name\" : \"", "\"name\" : \"X"));
+
+        DataLoadingException e = assertThrowsDataLoading(filePath);
+        assertEquals(String.format(ShardedAddressBookStorage.MESSAGE_CHECKSUM_MISMATCH, shardFile.getFileName()),
+                e.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getShardDirectory(filePath).resolve(listShardFiles(filePath).iterator().next()));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_malformedManifest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        Files.writeString(filePath, "{}");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        for (String entry : new String[] {"student-01", "../student-01 0123abcd", "student-01 xyz"}) {
+            Files.writeString(filePath, ShardedAddressBookStorage.MANIFEST_HEADER + "\n" + entry + "\n",
+                    StandardCharsets.UTF_8);
+            assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        }
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons and classes as {@code expected}, in any order.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new HashSet<>(expected.getPersonList()), new HashSet<>(actual.getPersonList()));
+        assertEquals(expected.getPersonList().size(), actual.getPersonList().size());
+        assertEquals(expected.getTuitionClassList(), actual.getTuitionClassList());
+    }
+
+    private static DataLoadingException assertThrowsDataLoading(Path filePath) {
+        try {
+            new ShardedAddressBookStorage(filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a DataLoadingException");
+    }
+
+    private static Path getShardDirectory(Path filePath) {
+        return ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+    }
+
+    private static Set<String> listShardFiles(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(getShardDirectory(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> markShardFilesOld(Path filePath) throws IOException {
+        Set<String> shardFiles = listShardFiles(filePath);
+        for (String shardFile : shardFiles) {
+            Files.setLastModifiedTime(getShardDirectory(filePath).resolve(shardFile), OLD_TIME);
+        }
+        return shardFiles;
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTuitionClasses.getLinkedAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("ab.db"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("missing.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("ab.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(AddressBookFormat.SQL, AddressBookFormat.detect(filePath).get());
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertSameData(original, readBack);
+
+        // the relationships are restored on both of their sides
+        Person student = readBack.findPersonByName(new Name("Linked Student")).get();
+        assertEquals(original.getParentIdsOf(student.getId()), readBack.getParentIdsOf(student.getId()));
+        assertEquals(original.getClassIdsAttendedBy(student.getId()), readBack.getClassIdsAttendedBy(student.getId()));
+
+        // saving to another file writes every row there
+        Path otherFilePath = testFolder.resolve("other.db");
+        storage.saveAddressBook(original, otherFilePath);
+        assertSameData(original, storage.readAddressBook(otherFilePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_changedPhone_updatesRowInPlace() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = getLinkedAddressBook();
+        storage.saveAddressBook(addressBook);
+        Object fileKeyBefore = Files.readAttributes(filePath, BasicFileAttributes.class).fileKey();
+        List<String> rowIdsBefore = query(filePath, "SELECT rowid FROM persons ORDER BY rowid");
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99990000").build());
+        PendingSave save = storage.prepareSave(addressBook);
+        assertFalse(save.supersedesEarlierSaves());
+        save.write();
+
+        // the row is updated in the same database, keeping its place
+        assertEquals(fileKeyBefore, Files.readAttributes(filePath, BasicFileAttributes.class).fileKey());
+        assertEquals(rowIdsBefore, query(filePath, "SELECT rowid FROM persons ORDER BY rowid"));
+        assertEquals(List.of("99990000"), query(filePath, "SELECT phone FROM persons WHERE id = ?",
+                ALICE.getId().getValue()));
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void prepareSave_addressBookRead_writesOnlyDifferences() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        byte[] contentBefore = Files.readAllBytes(filePath);
+
+        // a copy of the data just read has no rows to write
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertSame(PendingSave.NONE, storage.prepareSave(addressBook));
+        assertArrayEquals(contentBefore, Files.readAllBytes(filePath));
+
+        addressBook.addPerson(HOON);
+        PendingSave save = storage.prepareSave(addressBook);
+        assertFalse(save.supersedesEarlierSaves());
+        save.write();
+        assertSameData(addressBook, new SqlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_removedPerson_rowsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(query(filePath, "SELECT tag FROM tags WHERE person_id = ?", ALICE.getId().getValue()).isEmpty());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(query(filePath, "SELECT id FROM persons WHERE id = ?", ALICE.getId().getValue()).isEmpty());
+        assertTrue(query(filePath, "SELECT tag FROM tags WHERE person_id = ?", ALICE.getId().getValue()).isEmpty());
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_failedWrite_databaseRebuiltOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // the rows to update are gone, so the update fails
+        Files.delete(filePath);
+        addressBook.addPerson(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        storage.saveAddressBook(addressBook);
+        assertSameData(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_notDatabase_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        Files.writeString(filePath, "{}");
+        assertThrows(DataLoadingException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_linkHeldByOneSideOnly_keptAsSaved() throws Exception {
+        Path filePath = testFolder.resolve("ab.db");
+        AddressBook addressBook = getLinkedAddressBook();
+        Parent parent = (Parent) addressBook.findPersonByName(new Name("Linked Parent")).get();
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Unlinked Student").build();
+        addressBook.addPerson(student);
+        // the parent lists the student, but the student names no parent and attends a class that does not list it
+        parent.addChildId(student.getId());
+        student.setTuitionClass(new ClassId(Day.FRIDAY, Time.H14));
+
+        new SqlAddressBookStorage(filePath).saveAddressBook(addressBook);
+        ReadOnlyAddressBook readBack = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        Parent readParent = (Parent) readBack.getPersonList().stream()
+                .filter(person -> person.getId().equals(parent.getId())).findFirst().get();
+        Student readStudent = (Student) readBack.getPersonList().stream()
+                .filter(person -> person.getId().equals(student.getId())).findFirst().get();
+        assertEquals(parent.getChildrenIds(), readParent.getChildrenIds());
+        assertEquals(null, readStudent.getParentId());
+        assertEquals(student.getClassId(), readStudent.getClassId());
+        assertSameData(addressBook, readBack);
+    }
+
+    /**
+     * Returns the last column of each row returned by {@code query} on the database at {@code filePath}.
+     */
+    private static List<String> query(Path filePath, String query, String... values) throws SQLException {
+        List<String> results = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < values.length; i++) {
+                statement.setString(i + 1, values[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    results.add(resultSet.getString(resultSet.getMetaData().getColumnCount()));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons and classes as {@code expected}, in the same order.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getTuitionClassList(), actual.getTuitionClassList());
+    }
+}
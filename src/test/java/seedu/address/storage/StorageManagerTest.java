@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -65,4 +66,35 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void readAddressBook_otherFormat_readInThatFormat() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = getTempFilePath("ab");
+
+        // a json storage reads a binary snapshot
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, storageManager.readAddressBook().get());
+
+        // and a binary storage reads a json file
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        StorageManager binaryStorageManager = new StorageManager(new BinaryAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(original, binaryStorageManager.readAddressBook().get());
+        assertEquals(AddressBookFormat.BINARY, binaryStorageManager.getAddressBookFormat());
+    }
+
+    @Test
+    public void readAddressBook_jsonWithJournalForOtherFormat_journalReplayed() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        StorageManager binaryStorageManager = new StorageManager(new BinaryAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(original, binaryStorageManager.readAddressBook().get());
+    }
+
 }
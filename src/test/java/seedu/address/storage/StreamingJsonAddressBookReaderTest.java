@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalTuitionClasses;
+
+public class StreamingJsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        List<Long> progress = new ArrayList<>();
+        AddressBook addressBook = StreamingJsonAddressBookReader.read(TYPICAL_PERSONS_FILE, (
+                recordsLoaded, bytesRead, totalBytes) -> progress.add(bytesRead));
+
+        assertEquals(getTypicalAddressBook(), addressBook);
+        // only the final update is reported for a small file
+        assertEquals(List.of(Files.size(TYPICAL_PERSONS_FILE)), progress);
+    }
+
+    @Test
+    public void read_sameAsDataBinding() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addTuitionClass(TypicalTuitionClasses.MONDAY_CLASS);
+        Path file = testFolder.resolve("ab.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        AddressBook streamed = StreamingJsonAddressBookReader.read(file, LoadProgressListener.NONE);
+        AddressBook bound = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(bound, streamed);
+        assertEquals(bound.getTuitionClassList(), streamed.getTuitionClassList());
+    }
+
+    @Test
+    public void read_manyRecords_reportsProgressPeriodically() throws Exception {
+        AddressBook original = new AddressBook();
+        int personCount = StreamingJsonAddressBookReader.PROGRESS_INTERVAL * 2 + 1;
+        for (int i = 0; i < personCount; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        Path file = testFolder.resolve("ab.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        List<Integer> progress = new ArrayList<>();
+        AddressBook addressBook = StreamingJsonAddressBookReader.read(file, (
+                recordsLoaded, bytesRead, totalBytes) -> progress.add(recordsLoaded));
+
+        assertEquals(original, addressBook);
+        assertEquals(List.of(StreamingJsonAddressBookReader.PROGRESS_INTERVAL,
+                StreamingJsonAddressBookReader.PROGRESS_INTERVAL * 2, personCount), progress);
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(file, "{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ], \"notes\" : [ 1, 2 ] }");
+        assertEquals(new AddressBook(), StreamingJsonAddressBookReader.read(file, LoadProgressListener.NONE));
+    }
+
+    @Test
+    public void read_missingPersons_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(file, "{ \"tuitionClasses\" : [ ] }");
+        assertThrows(IllegalValueException.class, StreamingJsonAddressBookReader.MESSAGE_MISSING_PERSONS, () ->
+                StreamingJsonAddressBookReader.read(file, LoadProgressListener.NONE));
+    }
+
+    @Test
+    public void read_malformedStructure_throwsJsonParseException() throws Exception {
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(file, "{ \"persons\" : [ null ] }");
+        assertThrows(JsonParseException.class, () -> StreamingJsonAddressBookReader.read(file,
+                LoadProgressListener.NONE));
+
+        Files.writeString(file, "{ \"persons\" : [ ");
+        assertThrows(JsonParseException.class, () -> StreamingJsonAddressBookReader.read(file,
+                LoadProgressListener.NONE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> StreamingJsonAddressBookReader.read(INVALID_PERSON_FILE,
+                LoadProgressListener.NONE));
+    }
+
+    @Test
+    public void read_severalInvalidRecords_reportsEveryRecord() throws Exception {
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(file, String.join("\n",
+                "{ \"persons\" : [",
+                "  { \"id\" : \"not an id\", \"category\" : \"student\" },",
+                "  { \"name\" : \"No Id\" } ],",
+                "  \"tuitionClasses\" : [",
+                "  { \"day\" : \"someday\", \"time\" : \"H12\" } ] }"));
+
+        String expectedErrors = String.join("\n",
+                "Person 1 (line 2): " + String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, "Name"),
+                "Person 2 (line 3): " + String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, "PersonId"),
+                "Tuition class 1 (line 5): " + Day.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordConverter.MESSAGE_INVALID_RECORDS,
+                3, expectedErrors), () -> StreamingJsonAddressBookReader.read(file, LoadProgressListener.NONE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingJsonAddressBookReader.read(DUPLICATE_PERSON_FILE, LoadProgressListener.NONE));
+    }
+}
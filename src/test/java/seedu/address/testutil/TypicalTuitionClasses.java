@@ -2,11 +2,16 @@ package seedu.address.testutil;
 
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Student;
 import seedu.address.model.tuitionclass.Day;
 import seedu.address.model.tuitionclass.Time;
 import seedu.address.model.tuitionclass.TuitionClass;
@@ -22,4 +27,24 @@ public class TypicalTuitionClasses {
             GEORGE.getId(), // Tutor
             Stream.of(ALICE.getId(), BENSON.getId()).collect(Collectors.toSet()) // Students
     );
+
+    /**
+     * Returns the typical address book with a new parent, student, class and tutor linked together.
+     */
+    public static AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Linked Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Linked Parent").build();
+        TuitionClass tuitionClass = new TuitionClass(Day.FRIDAY, Time.H14);
+        tuitionClass.setTutorId(FIONA.getId());
+        tuitionClass.addStudentId(student.getId());
+        student.setTuitionClass(tuitionClass);
+        student.setParent(parent);
+        parent.addChild(student);
+
+        addressBook.addPerson(student);
+        addressBook.addPerson(parent);
+        addressBook.addTuitionClass(tuitionClass);
+        return addressBook;
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A utility class for testing hand-written validators against the regexes they replace.
+ */
+public class ValidationTestUtil {
+
+    private static final List<String> FRAGMENTS = List.of("", " ", "  ", "\t", "\n", "\r", "\u000B", "\f",
+            "\u0085", "\u2028", "\u2029", "\u00A0", "a", "Z", "0", "9", "3", "6", "8", "12345678", "9123456",
+            "_", "-", ".", "+", "@", "#", "\u00E9", "\u4E2D", "\uD83D\uDE00", "peter jack", "e1", "x-y.com", "a@b.co");
+
+    /**
+     * Returns a set of inputs covering the boundaries of the character classes used in validation regexes: every
+     * fragment on its own, and every pair of fragments.
+     */
+    public static List<String> getSampleInputs() {
+        List<String> inputs = new ArrayList<>();
+        for (String first : FRAGMENTS) {
+            inputs.add(first);
+            for (String second : FRAGMENTS) {
+                inputs.add(first + second);
+                inputs.add(first + second + first);
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the sample inputs, and {@code extraInputs}, fully matched by
+     * {@code regex}.
+     */
+    public static void assertSameAsRegex(String regex, Predicate<String> validator, String... extraInputs) {
+        List<String> inputs = getSampleInputs();
+        inputs.addAll(List.of(extraInputs));
+        for (String input : inputs) {
+            assertEquals(input.matches(regex), validator.test(input), () -> "Validating \"" + input + "\"");
+        }
+    }
+}